@@ -1,7 +1,6 @@
 package com.paras.bsn.auth;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,7 +19,7 @@ public class AuthenticationController {
     @ResponseStatus(HttpStatus.ACCEPTED)
     public ResponseEntity<?> register(
             @RequestBody @Valid RegisterRequest registerRequest
-    ) throws MessagingException {
+    ) {
             authenticationService.register(registerRequest);
             return ResponseEntity.accepted().build();
     }
@@ -35,7 +34,7 @@ public class AuthenticationController {
     @GetMapping("/activate-account")
     public void confirm(
             @RequestParam String token
-    ) throws MessagingException {
+    ) {
         authenticationService.activateAccount(token);
     }
 
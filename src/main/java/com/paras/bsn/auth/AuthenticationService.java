@@ -4,11 +4,11 @@ import com.paras.bsn.email.EmailService;
 import com.paras.bsn.email.EmailTemplateName;
 import com.paras.bsn.role.RoleRepository;
 import com.paras.bsn.security.JwtService;
+import com.paras.bsn.security.UserStatusCache;
 import com.paras.bsn.user.Token;
 import com.paras.bsn.user.TokenRepository;
 import com.paras.bsn.user.User;
 import com.paras.bsn.user.UserRepository;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,6 +16,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
@@ -33,28 +34,33 @@ public class AuthenticationService {
     private final EmailService emailService;
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
+    private final UserStatusCache userStatusCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${activation-url}")
     private String activationUrl;
 
-    public void register(@Valid RegisterRequest registerRequest) throws MessagingException {
-        var userRole = roleRepository.findByName("USER").orElseThrow(
-                () -> new IllegalStateException("Role USER was not initiated")
-        );
-        var user = User.builder()
-                .firstName(registerRequest.getFirstName())
-                .lastName(registerRequest.getLastName())
-                .email(registerRequest.getEmail())
-                .password(passwordEncoder.encode(registerRequest.getPassword()))
-                .accountLocked(false)
-                .enabled(false)
-                .roles(List.of(userRole))
-                .build();
-        userRepository.save(user);
-        sendValidationEmail(user);
+    public void register(@Valid RegisterRequest registerRequest) {
+        var encodedPassword = passwordEncoder.encode(registerRequest.getPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            var userRole = roleRepository.findByName("USER").orElseThrow(
+                    () -> new IllegalStateException("Role USER was not initiated")
+            );
+            var user = User.builder()
+                    .firstName(registerRequest.getFirstName())
+                    .lastName(registerRequest.getLastName())
+                    .email(registerRequest.getEmail())
+                    .password(encodedPassword)
+                    .accountLocked(false)
+                    .enabled(false)
+                    .roles(List.of(userRole))
+                    .build();
+            userRepository.save(user);
+            sendValidationEmail(user);
+        });
     }
 
-    private void sendValidationEmail(User user) throws MessagingException {
+    private void sendValidationEmail(User user) {
         var newToken = generateAndSaveActivationToken(user);
         emailService.sendEmail(
                 user.getEmail(),
@@ -98,13 +104,14 @@ public class AuthenticationService {
         );
         var claims = new HashMap<String, Object>();
         var user = ((User) auth.getPrincipal());
+        claims.put("id", user.getId());
         claims.put("fullName", user.fullName());
         var jwtToken = jwtService.generateToken(claims, user);
         return AuthenticationResponse.builder()
                 .token(jwtToken).build();
     }
 
-    public void activateAccount(String token) throws MessagingException {
+    public void activateAccount(String token) {
         Token savedToken = tokenRepository.findByToken(token)
                 // todo check if token is expired
                 .orElseThrow(() -> new RuntimeException("Token not found"));
@@ -116,6 +123,7 @@ public class AuthenticationService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         user.setEnabled(true);
         userRepository.save(user);
+        userStatusCache.evict(user.getEmail());
         savedToken.setValidatedAt(LocalDateTime.now());
         tokenRepository.save(savedToken);
     }
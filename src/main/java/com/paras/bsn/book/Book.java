@@ -10,6 +10,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
@@ -19,14 +22,24 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @SuperBuilder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book")
 public class Book extends BaseEntity {
     private String title;
     private String authorName;
     private String isbn;
     private String synopsis;
     private String bookCover;
+    private String bookCoverHash;
+    private String bookCoverThumbnail;
+    private String bookCoverMedium;
     private Boolean archived;
     private Boolean shareable;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private double ratingSum;
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int ratingCount;
     @ManyToOne
     @JoinColumn(name = "owner_id")
     private User owner;
@@ -39,13 +52,14 @@ public class Book extends BaseEntity {
 
     @Transient
     public Double getRate() {
-        if (feedbacks == null || feedbacks.isEmpty()) {
+        return rate(ratingSum, ratingCount);
+    }
+
+    public static double rate(double ratingSum, int ratingCount) {
+        if (ratingCount == 0) {
             return 0.0;
         }
-        var rate = feedbacks.stream()
-                .mapToDouble(Feedback::getNote)
-                .average()
-                .orElse(0.0);
+        var rate = ratingSum / ratingCount;
         return Math.round(rate * 10.0) / 10.0;
     }
 }
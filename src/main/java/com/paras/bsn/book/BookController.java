@@ -1,16 +1,26 @@
 package com.paras.bsn.book;
 
+import com.paras.bsn.common.ContentVersion;
+import com.paras.bsn.common.CursorPageResponse;
 import com.paras.bsn.common.PageResponse;
+import com.paras.bsn.common.Versioned;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/books")
 @RequiredArgsConstructor
@@ -28,17 +38,41 @@ public class BookController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BookResponse> getBookById(@PathVariable Integer id) {
-        return ResponseEntity.ok(bookService.getBookById(id));
+    public ResponseEntity<BookResponse> getBookById(@PathVariable Integer id, WebRequest webRequest) {
+        Versioned<BookResponse> book = bookService.getBookById(id);
+        if (webRequest.checkNotModified(book.version().eTag(), book.version().lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(book.content());
+    }
+
+    @GetMapping("/{id}/cover")
+    public ResponseEntity<Resource> getBookCover(
+            @PathVariable Integer id,
+            @RequestParam(name = "rendition", defaultValue = "original", required = false) String rendition
+    ) {
+        BookCover bookCover = bookService.getBookCover(id, CoverRendition.from(rendition));
+        return ResponseEntity.ok()
+                .contentType(MediaTypeFactory.getMediaType(bookCover.resource())
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .eTag(bookCover.contentHash())
+                .body(bookCover.resource());
     }
 
     @GetMapping
     public ResponseEntity<PageResponse<BookResponse>> getAllBooks(
             @RequestParam(name = "page", defaultValue = "0", required = false) Integer page,
             @RequestParam(name = "size", defaultValue = "10", required = false) Integer size,
-            Authentication authentication
+            @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal,
+            @ParameterObject BookFilter filter,
+            Authentication authentication,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(bookService.getAllBooks(page, size, authentication));
+        ContentVersion version = bookService.getAllBooksVersion(page, size, withTotal, filter, authentication);
+        if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(bookService.getAllBooks(page, size, withTotal, filter, authentication));
     }
 
     @GetMapping("/owner")
@@ -54,18 +88,65 @@ public class BookController {
     public ResponseEntity<PageResponse<BorrowedBookResponse>> getAllBorrowedBooks(
             @RequestParam(name = "page", defaultValue = "0", required = false) Integer page,
             @RequestParam(name = "size", defaultValue = "10", required = false) Integer size,
+            @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal,
             Authentication authentication
     ) {
-        return ResponseEntity.ok(bookService.getAllBorrowedBooks(page, size, authentication));
+        return ResponseEntity.ok(bookService.getAllBorrowedBooks(page, size, withTotal, authentication));
     }
 
     @GetMapping("/returned")
     public ResponseEntity<PageResponse<BorrowedBookResponse>> getAllReturnedBooks(
             @RequestParam(name = "page", defaultValue = "0", required = false) Integer page,
             @RequestParam(name = "size", defaultValue = "10", required = false) Integer size,
+            @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(bookService.getAllReturnedBooks(page, size, withTotal, authentication));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<BookResponse>> getAllBooksByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) Integer size,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(bookService.getAllBooksByCursor(cursor, size, authentication));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageResponse<BookResponse>> searchBooks(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) Integer size
+    ) {
+        return ResponseEntity.ok(bookService.searchBooks(query, cursor, size));
+    }
+
+    @GetMapping("/owner/cursor")
+    public ResponseEntity<CursorPageResponse<BookResponse>> getBooksByOwnerByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) Integer size,
             Authentication authentication
     ) {
-        return ResponseEntity.ok(bookService.getAllReturnedBooks(page, size, authentication));
+        return ResponseEntity.ok(bookService.getBooksByOwnerByCursor(cursor, size, authentication));
+    }
+
+    @GetMapping("/borrowed/cursor")
+    public ResponseEntity<CursorPageResponse<BorrowedBookResponse>> getAllBorrowedBooksByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) Integer size,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(bookService.getAllBorrowedBooksByCursor(cursor, size, authentication));
+    }
+
+    @GetMapping("/returned/cursor")
+    public ResponseEntity<CursorPageResponse<BorrowedBookResponse>> getAllReturnedBooksByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10", required = false) Integer size,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(bookService.getAllReturnedBooksByCursor(cursor, size, authentication));
     }
 
     @PatchMapping("/shareable/{id}")
@@ -76,6 +157,22 @@ public class BookController {
         return ResponseEntity.ok(bookService.updateShareableStatus(id, authentication));
     }
 
+    @PatchMapping("/shareable")
+    public ResponseEntity<List<BookStatusResult>> updateShareableStatuses(
+            @Valid @RequestBody BookStatusBatchRequest request,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(bookService.updateShareableStatuses(request, authentication));
+    }
+
+    @PatchMapping("/archived")
+    public ResponseEntity<List<BookStatusResult>> updateArchiveStatuses(
+            @Valid @RequestBody BookStatusBatchRequest request,
+            Authentication authentication
+    ) {
+        return ResponseEntity.ok(bookService.updateArchiveStatuses(request, authentication));
+    }
+
     @PatchMapping("/archived/{id}")
     public ResponseEntity<Integer> updateArchiveStatus(
             @PathVariable Integer id,
@@ -0,0 +1,9 @@
+package com.paras.bsn.book;
+
+import org.springframework.core.io.Resource;
+
+public record BookCover(
+        Resource resource,
+        String contentHash
+) {
+}
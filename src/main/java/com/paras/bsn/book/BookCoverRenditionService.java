@@ -0,0 +1,105 @@
+package com.paras.bsn.book;
+
+import com.paras.bsn.file.ImageResizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+
+@Service
+@Slf4j
+public class BookCoverRenditionService {
+
+    private final BookRepository bookRepository;
+    private final TaskExecutor executor;
+
+    @Value("${coverThumbnailSize:200}")
+    private int thumbnailSize;
+
+    @Value("${coverMediumSize:600}")
+    private int mediumSize;
+
+    @Value("${coverRenditionQuality:0.8}")
+    private float quality;
+
+    @Value("${coverMaxPixels:40000000}")
+    private long maxPixels;
+
+    public BookCoverRenditionService(
+            BookRepository bookRepository,
+            @Qualifier("imageTaskExecutor") TaskExecutor executor
+    ) {
+        this.bookRepository = bookRepository;
+        this.executor = executor;
+    }
+
+    public void generate(Integer bookId, String bookCover) {
+        try {
+            executor.execute(() -> render(bookId, bookCover));
+        } catch (TaskRejectedException e) {
+            log.warn("Cover rendition queue is full, skipping book {}", bookId);
+        }
+    }
+
+    private void render(Integer bookId, String bookCover) {
+        Path source = Paths.get(bookCover);
+        Path thumbnail = renditionPath(source, CoverRendition.THUMBNAIL);
+        Path medium = renditionPath(source, CoverRendition.MEDIUM);
+        try {
+            if (!Files.exists(thumbnail) || !Files.exists(medium)) {
+                BufferedImage image = ImageResizer.read(source, maxPixels);
+                if (image == null) {
+                    log.warn("Cover of book {} is not a readable image: {}", bookId, bookCover);
+                    return;
+                }
+                BufferedImage mediumImage = ImageResizer.scaleToFit(image, mediumSize);
+                write(mediumImage, medium);
+                write(ImageResizer.scaleToFit(mediumImage, thumbnailSize), thumbnail);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to render cover of book {}: {}", bookId, e.getMessage());
+            deleteQuietly(thumbnail, medium);
+            return;
+        }
+        if (bookRepository.updateCoverRenditions(bookId, bookCover, thumbnail.toString(), medium.toString(), LocalDateTime.now()) == 0) {
+            deleteQuietly(thumbnail, medium);
+        }
+    }
+
+    private void write(BufferedImage image, Path target) throws IOException {
+        Path tempFile = Files.createTempFile(target.getParent(), "rendition-", ".tmp");
+        try {
+            ImageResizer.writeJpeg(image, tempFile, quality);
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private Path renditionPath(Path source, CoverRendition rendition) {
+        String fileName = source.getFileName().toString();
+        int lastDotIndex = fileName.lastIndexOf('.');
+        String baseName = lastDotIndex == -1 ? fileName : fileName.substring(0, lastDotIndex);
+        return source.resolveSibling(baseName + "-" + rendition.param() + ".jpg");
+    }
+
+    private void deleteQuietly(Path... paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Failed to delete rendition: {}", path);
+            }
+        }
+    }
+}
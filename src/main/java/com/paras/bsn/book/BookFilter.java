@@ -0,0 +1,25 @@
+package com.paras.bsn.book;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+public record BookFilter(
+        String author,
+        String isbn,
+        Double minRating,
+        Boolean shareable,
+        Boolean archived,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate createdTo,
+        Boolean hasCover
+) {
+
+    public boolean isEmpty() {
+        return Stream.of(author, isbn, minRating, shareable, archived, createdFrom, createdTo, hasCover)
+                .allMatch(value -> value == null || (value instanceof String text && text.isBlank()));
+    }
+}
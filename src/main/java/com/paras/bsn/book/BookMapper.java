@@ -1,8 +1,8 @@
 package com.paras.bsn.book;
 
-import com.paras.bsn.file.FileUtils;
 import com.paras.bsn.history.BookTransactionHistory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @Service
 public class BookMapper {
@@ -19,6 +19,14 @@ public class BookMapper {
                 .build();
     }
 
+    public void updateBook(Book book, BookRequest bookRequest) {
+        book.setTitle(bookRequest.title());
+        book.setAuthorName(bookRequest.authorName());
+        book.setIsbn(bookRequest.isbn());
+        book.setSynopsis(bookRequest.synopsis());
+        book.setShareable(bookRequest.shareable());
+    }
+
     public BookResponse toBookResponse(Book book) {
         return BookResponse.builder()
                 .id(book.getId())
@@ -27,13 +35,46 @@ public class BookMapper {
                 .isbn(book.getIsbn())
                 .synopsis(book.getSynopsis())
                 .owner(book.getOwner().fullName())
-                .cover(FileUtils.readFileFromLocation(book.getBookCover()))
+                .coverUrl(toCoverUrl(book.getId(), book.getBookCover(), CoverRendition.ORIGINAL))
+                .thumbnailUrl(toCoverUrl(book.getId(), book.getBookCoverThumbnail(), CoverRendition.THUMBNAIL))
+                .coverHash(book.getBookCoverHash())
                 .rate(book.getRate())
                 .archived(book.getArchived())
                 .shareable(book.getShareable())
                 .build();
     }
 
+    public BookResponse toBookResponse(BookSummary bookSummary) {
+        return BookResponse.builder()
+                .id(bookSummary.id())
+                .title(bookSummary.title())
+                .authorName(bookSummary.authorName())
+                .isbn(bookSummary.isbn())
+                .synopsis(bookSummary.synopsis())
+                .owner(bookSummary.ownerFirstName() + " " + bookSummary.ownerLastName())
+                .coverUrl(toCoverUrl(bookSummary.id(), bookSummary.bookCover(), CoverRendition.ORIGINAL))
+                .thumbnailUrl(toCoverUrl(bookSummary.id(), bookSummary.bookCoverThumbnail(), CoverRendition.THUMBNAIL))
+                .coverHash(bookSummary.bookCoverHash())
+                .rate(Book.rate(bookSummary.ratingSum(), bookSummary.ratingCount()))
+                .archived(bookSummary.archived())
+                .shareable(bookSummary.shareable())
+                .build();
+    }
+
+    private String toCoverUrl(Integer bookId, String bookCover, CoverRendition rendition) {
+        if (bookCover == null) {
+            return null;
+        }
+        var builder = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/books/{id}/cover");
+        if (rendition != CoverRendition.ORIGINAL) {
+            builder.queryParam("rendition", rendition.param());
+        }
+        return builder
+                .buildAndExpand(bookId)
+                .toUriString();
+    }
+
     public BorrowedBookResponse toBorrowedBookResponse(BookTransactionHistory bookTransactionHistory) {
         return BorrowedBookResponse.builder()
                 .id(bookTransactionHistory.getBook().getId())
@@ -45,4 +86,16 @@ public class BookMapper {
                 .returnApproved(bookTransactionHistory.getReturnApproved())
                 .build();
     }
+
+    public BorrowedBookResponse toBorrowedBookResponse(BorrowedBookSummary borrowedBookSummary) {
+        return BorrowedBookResponse.builder()
+                .id(borrowedBookSummary.id())
+                .title(borrowedBookSummary.title())
+                .authorName(borrowedBookSummary.authorName())
+                .isbn(borrowedBookSummary.isbn())
+                .rate(Book.rate(borrowedBookSummary.ratingSum(), borrowedBookSummary.ratingCount()))
+                .returned(borrowedBookSummary.returned())
+                .returnApproved(borrowedBookSummary.returnApproved())
+                .build();
+    }
 }
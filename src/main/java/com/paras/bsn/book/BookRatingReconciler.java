@@ -0,0 +1,48 @@
+package com.paras.bsn.book;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@Slf4j
+public class BookRatingReconciler {
+
+    private final BookRepository bookRepository;
+    private final TaskExecutor executor;
+
+    @Value("${ratingReconciliationBatchSize:500}")
+    private int batchSize;
+
+    public BookRatingReconciler(
+            BookRepository bookRepository,
+            @Qualifier("reconciliationTaskExecutor") TaskExecutor executor
+    ) {
+        this.bookRepository = bookRepository;
+        this.executor = executor;
+    }
+
+    @Scheduled(cron = "${ratingReconciliationCron:0 0 3 * * *}")
+    public void reconcileRatings() {
+        Integer maxId = bookRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+        List<CompletableFuture<Integer>> batches = new ArrayList<>();
+        for (int fromId = 0; fromId < maxId; fromId += batchSize) {
+            int from = fromId;
+            int to = Math.min(fromId + batchSize, maxId);
+            batches.add(CompletableFuture.supplyAsync(() -> bookRepository.recomputeRatings(from, to, LocalDateTime.now()), executor));
+        }
+        int updated = batches.stream().mapToInt(CompletableFuture::join).sum();
+        log.info("Reconciled ratings for {} books", updated);
+    }
+}
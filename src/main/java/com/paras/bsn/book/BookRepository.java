@@ -1,19 +1,226 @@
 package com.paras.bsn.book;
 
+import com.paras.bsn.common.CollectionVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Integer>, JpaSpecificationExecutor<Book> {
 
     @Query("""
-            SELECT book
+            SELECT new com.paras.bsn.book.BookSummary(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis,
+                owner.firstName, owner.lastName, book.bookCover, book.bookCoverHash, book.bookCoverThumbnail,
+                book.ratingSum, book.ratingCount, book.archived, book.shareable
+            )
+            FROM Book book
+            JOIN book.owner owner
+            WHERE book.archived = false
+            AND book.shareable = true
+            AND owner.id = :userId
+            """)
+    Slice<BookSummary> findAllByDisplayableBooks(Pageable pageable, Integer userId);
+
+    @Query(value = """
+            SELECT new com.paras.bsn.book.BookSummary(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis,
+                owner.firstName, owner.lastName, book.bookCover, book.bookCoverHash, book.bookCoverThumbnail,
+                book.ratingSum, book.ratingCount, book.archived, book.shareable
+            )
+            FROM Book book
+            JOIN book.owner owner
+            WHERE owner.id = :ownerId
+            """,
+            countQuery = """
+            SELECT COUNT(book)
+            FROM Book book
+            WHERE book.owner.id = :ownerId
+            """)
+    Page<BookSummary> findAllByOwner(Pageable pageable, Integer ownerId);
+
+    @Query("""
+            SELECT new com.paras.bsn.book.BookSummary(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis,
+                owner.firstName, owner.lastName, book.bookCover, book.bookCoverHash, book.bookCoverThumbnail,
+                book.ratingSum, book.ratingCount, book.archived, book.shareable
+            )
+            FROM Book book
+            JOIN book.owner owner
+            WHERE book.id IN :ids
+            """)
+    List<BookSummary> findSummariesByIds(Collection<Integer> ids);
+
+    @Query(value = """
+            SELECT book.id AS id, ts_rank(book.search_vector, search_query) AS rank
+            FROM book book, to_tsquery('simple', :query) search_query
+            WHERE book.search_vector @@ search_query
+            AND book.archived = false
+            AND book.shareable = true
+            AND (ts_rank(book.search_vector, search_query), book.id) < (CAST(:afterRank AS REAL), :afterId)
+            ORDER BY rank DESC, book.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<BookSearchHit> searchDisplayableBooks(String query, float afterRank, int afterId, int limit);
+
+    @Query("""
+            SELECT new com.paras.bsn.book.BookSearchDocument(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis
+            )
+            FROM Book book
+            WHERE book.archived = false
+            AND book.shareable = true
+            AND book.id > :afterId
+            ORDER BY book.id
+            """)
+    List<BookSearchDocument> findSearchDocuments(Integer afterId, Limit limit);
+
+    @Query("""
+            SELECT new com.paras.bsn.book.BookSearchDocument(
+                book.id, book.title, book.authorName, book.isbn, book.synopsis
+            )
+            FROM Book book
+            WHERE book.archived = false
+            AND book.shareable = true
+            AND book.id IN :ids
+            """)
+    List<BookSearchDocument> findSearchDocumentsByIds(Collection<Integer> ids);
+
+    @Query("""
+            SELECT new com.paras.bsn.book.BookStatus(
+                book.id, book.owner.id, book.shareable, book.archived
+            )
+            FROM Book book
+            WHERE book.id IN :ids
+            """)
+    List<BookStatus> findStatusesByIds(Collection<Integer> ids);
+
+    @Query("""
+            SELECT COUNT(book)
             FROM Book book
             WHERE book.archived = false
             AND book.shareable = true
             AND book.owner.id = :userId
             """)
-    Page<Book> findAllByDisplayableBooks(Pageable pageable, Integer userId);
+    long countDisplayableBooks(Integer userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT book
+            FROM Book book
+            WHERE book.id = :id
+            """)
+    Optional<Book> findByIdForUpdate(Integer id);
+
+    @Query("""
+            SELECT new com.paras.bsn.common.CollectionVersion(
+                COUNT(book), MAX(COALESCE(book.lastModifiedDate, book.createdDate)),
+                SUM(book.ratingCount), SUM(book.ratingSum)
+            )
+            FROM Book book
+            WHERE book.owner.id = :ownerId
+            """)
+    CollectionVersion findCollectionVersionByOwner(Integer ownerId);
+
+    @Modifying
+    @Query("""
+            UPDATE Book book
+            SET book.shareable = :shareable,
+                book.lastModifiedDate = :lastModifiedDate,
+                book.lastModifiedBy = :ownerId
+            WHERE book.id IN :ids
+            AND book.owner.id = :ownerId
+            AND book.shareable <> :shareable
+            """)
+    int updateShareable(Collection<Integer> ids, Integer ownerId, boolean shareable, LocalDateTime lastModifiedDate);
+
+    @Modifying
+    @Query("""
+            UPDATE Book book
+            SET book.archived = :archived,
+                book.lastModifiedDate = :lastModifiedDate,
+                book.lastModifiedBy = :ownerId
+            WHERE book.id IN :ids
+            AND book.owner.id = :ownerId
+            AND book.archived <> :archived
+            """)
+    int updateArchived(Collection<Integer> ids, Integer ownerId, boolean archived, LocalDateTime lastModifiedDate);
+
+    @Query("""
+            SELECT MAX(book.id)
+            FROM Book book
+            """)
+    Integer findMaxId();
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Book book
+            SET book.ratingSum = COALESCE((
+                    SELECT SUM(feedback.note)
+                    FROM Feedback feedback
+                    WHERE feedback.book.id = book.id
+                ), 0),
+                book.ratingCount = (
+                    SELECT COUNT(feedback.note)
+                    FROM Feedback feedback
+                    WHERE feedback.book.id = book.id
+                ),
+                book.lastModifiedDate = :lastModifiedDate
+            WHERE book.id > :fromId
+            AND book.id <= :toId
+            AND (
+                book.ratingCount <> (
+                    SELECT COUNT(feedback.note)
+                    FROM Feedback feedback
+                    WHERE feedback.book.id = book.id
+                )
+                OR book.ratingSum <> COALESCE((
+                    SELECT SUM(feedback.note)
+                    FROM Feedback feedback
+                    WHERE feedback.book.id = book.id
+                ), 0)
+            )
+            """)
+    int recomputeRatings(Integer fromId, Integer toId, LocalDateTime lastModifiedDate);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Book book
+            SET book.bookCoverThumbnail = :thumbnail,
+                book.bookCoverMedium = :medium,
+                book.lastModifiedDate = :lastModifiedDate
+            WHERE book.id = :bookId
+            AND book.bookCover = :bookCover
+            """)
+    int updateCoverRenditions(Integer bookId, String bookCover, String thumbnail, String medium, LocalDateTime lastModifiedDate);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE Book book
+            SET book.bookCover = :bookCover,
+                book.bookCoverHash = :bookCoverHash,
+                book.bookCoverThumbnail = NULL,
+                book.bookCoverMedium = NULL,
+                book.lastModifiedDate = :lastModifiedDate,
+                book.lastModifiedBy = :ownerId
+            WHERE book.id = :bookId
+            AND book.owner.id = :ownerId
+            AND COALESCE(book.bookCoverHash, '') = COALESCE(:previousCoverHash, '')
+            """)
+    int replaceCover(Integer bookId, Integer ownerId, String previousCoverHash, String bookCover, String bookCoverHash, LocalDateTime lastModifiedDate);
 }
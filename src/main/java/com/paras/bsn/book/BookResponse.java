@@ -15,7 +15,9 @@ public class BookResponse {
     private String isbn;
     private String synopsis;
     private String owner;
-    private byte[] cover;
+    private String coverUrl;
+    private String thumbnailUrl;
+    private String coverHash;
     private double rate;
     private boolean archived;
     private boolean shareable;
@@ -0,0 +1,10 @@
+package com.paras.bsn.book;
+
+public record BookSearchDocument(
+        Integer id,
+        String title,
+        String authorName,
+        String isbn,
+        String synopsis
+) {
+}
@@ -0,0 +1,8 @@
+package com.paras.bsn.book;
+
+public interface BookSearchHit {
+
+    Integer getId();
+
+    Float getRank();
+}
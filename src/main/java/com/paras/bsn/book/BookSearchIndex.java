@@ -0,0 +1,13 @@
+package com.paras.bsn.book;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface BookSearchIndex {
+
+    List<BookSearchHit> search(List<String> terms, float afterRank, int afterId, int limit);
+
+    void index(Book book);
+
+    void reindex(Collection<Integer> bookIds);
+}
@@ -0,0 +1,34 @@
+package com.paras.bsn.book;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public class BookSearchQuery {
+
+    private static final int MAX_TERMS = 8;
+
+    public static List<String> terms(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.replaceAll("(?<=\\d)-(?=\\d)", "")
+                        .toLowerCase(Locale.ROOT)
+                        .split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+    }
+
+    public static String normalizeIsbn(String isbn) {
+        return isbn == null ? "" : isbn.replaceAll("[^\\p{L}\\p{N}]", "").toLowerCase(Locale.ROOT);
+    }
+
+    public static String toPrefixQuery(List<String> terms) {
+        return terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
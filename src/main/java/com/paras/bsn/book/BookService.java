@@ -1,109 +1,245 @@
 package com.paras.bsn.book;
 
+import com.paras.bsn.common.ContentVersion;
+import com.paras.bsn.common.CountCache;
+import com.paras.bsn.common.CursorPageResponse;
+import com.paras.bsn.common.KeysetCursor;
 import com.paras.bsn.common.PageResponse;
+import com.paras.bsn.common.Versioned;
 import com.paras.bsn.exception.OperationNotPermittedException;
 import com.paras.bsn.file.FileStorageService;
+import com.paras.bsn.file.CoverCache;
 import com.paras.bsn.history.BookTransactionHistory;
 import com.paras.bsn.history.BookTransactionHistoryRepository;
 import com.paras.bsn.user.User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.paras.bsn.book.BookSpecification.fetchOwner;
+import static com.paras.bsn.book.BookSpecification.isDisplayable;
+import static com.paras.bsn.book.BookSpecification.matching;
 import static com.paras.bsn.book.BookSpecification.withOwnerId;
+import static com.paras.bsn.history.BookTransactionHistorySpecification.fetchBookAndUser;
+import static com.paras.bsn.history.BookTransactionHistorySpecification.isReturned;
+import static com.paras.bsn.history.BookTransactionHistorySpecification.withBookOwnerId;
+import static com.paras.bsn.history.BookTransactionHistorySpecification.withUserId;
 
 @Service
 @RequiredArgsConstructor
 public class BookService {
 
+    private static final String DISPLAYABLE_BOOKS_COUNT = "displayable-books:";
+    private static final String BORROWED_BOOKS_COUNT = "borrowed-books:";
+    private static final String RETURNED_BOOKS_COUNT = "returned-books:";
+    private static final String ACTIVE_LOAN_CONSTRAINT = "ux_history_active_loan";
+
     private final BookMapper bookMapper;
     private final BookRepository bookRepository;
     private final BookTransactionHistoryRepository bookTransactionHistoryRepository;
     private final FileStorageService fileStorageService;
+    private final BookCoverRenditionService bookCoverRenditionService;
+    private final BookSearchIndex bookSearchIndex;
+    private final CountCache countCache;
+    private final CoverCache coverCache;
 
     public Book saveBook(BookRequest bookRequest, Authentication authentication) {
         User user = (User) authentication.getPrincipal();
-        Book book = bookMapper.toBook(bookRequest);
-        book.setOwner(user);
-        return bookRepository.save(book);
+        Book book;
+        if (bookRequest.id() == null) {
+            book = bookMapper.toBook(bookRequest);
+            book.setOwner(user);
+        } else {
+            book = bookRepository.findById(bookRequest.id())
+                    .orElseThrow(() -> new EntityNotFoundException("Book not found for ID: " + bookRequest.id()));
+            if (!book.getOwner().getId().equals(user.getId())) {
+                throw new OperationNotPermittedException("You are not the owner of this book");
+            }
+            bookMapper.updateBook(book, bookRequest);
+        }
+        Book savedBook = bookRepository.save(book);
+        countCache.evict(DISPLAYABLE_BOOKS_COUNT + user.getId());
+        bookSearchIndex.index(savedBook);
+        return savedBook;
     }
 
-    public BookResponse getBookById(Integer id) {
-        return bookRepository.findById(id)
-                .map(bookMapper::toBookResponse)
+    public Versioned<BookResponse> getBookById(Integer id) {
+        Book book = bookRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Book not found for ID: " + id));
+        return new Versioned<>(BookVersion.of(book).toContentVersion(), bookMapper.toBookResponse(book));
     }
 
-    public PageResponse<BookResponse> getAllBooks(Integer page, Integer size, Authentication authentication) {
+    public ContentVersion getAllBooksVersion(Integer page, Integer size, Boolean withTotal, BookFilter filter, Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return bookRepository.findCollectionVersionByOwner(user.getId())
+                .toContentVersion(user.getId(), page, size, withTotal, filter);
+    }
+
+    public PageResponse<BookResponse> getAllBooks(Integer page, Integer size, Boolean withTotal, BookFilter filter, Authentication authentication) {
         User user = (User) authentication.getPrincipal();
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
-        Page<Book> books = bookRepository.findAllByDisplayableBooks(pageable, user.getId());
-        List<BookResponse> bookResponses = books.map(bookMapper::toBookResponse).toList();
-        return new PageResponse<>(
-                bookResponses,
-                books.getNumber(),
-                books.getSize(),
-                books.getTotalElements(),
-                books.getTotalPages(),
-                books.isFirst(),
-                books.isLast()
+        if (!filter.isEmpty()) {
+            return getFilteredBooks(pageable, withTotal, withOwnerId(user.getId()).and(matching(filter)));
+        }
+        Slice<BookResponse> books = bookRepository.findAllByDisplayableBooks(pageable, user.getId())
+                .map(bookMapper::toBookResponse);
+        if (!withTotal) {
+            return PageResponse.of(books);
+        }
+        long total = countCache.get(DISPLAYABLE_BOOKS_COUNT + user.getId(),
+                () -> bookRepository.countDisplayableBooks(user.getId()));
+        return PageResponse.of(new PageImpl<>(books.getContent(), pageable, total), true);
+    }
+
+    private PageResponse<BookResponse> getFilteredBooks(Pageable pageable, Boolean withTotal, Specification<Book> specification) {
+        if (withTotal) {
+            Page<Book> books = bookRepository.findAll(specification.and(fetchOwner()), pageable);
+            return PageResponse.of(books.map(bookMapper::toBookResponse), false);
+        }
+        ScrollPosition position = pageable.getOffset() == 0
+                ? ScrollPosition.offset()
+                : ScrollPosition.offset(pageable.getOffset() - 1);
+        Window<Book> books = bookRepository.findBy(
+                specification.and(fetchOwner()),
+                query -> query.sortBy(pageable.getSort())
+                        .limit(pageable.getPageSize())
+                        .scroll(position)
         );
+        return PageResponse.of(new SliceImpl<>(books.map(bookMapper::toBookResponse).getContent(), pageable, books.hasNext()));
     }
 
     public PageResponse<BookResponse> getBooksByOwner(Integer page, Integer size, Authentication authentication) {
         User user = (User) authentication.getPrincipal();
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
-        Page<Book> books = bookRepository.findAll(withOwnerId(user.getId()), pageable);
-        List<BookResponse> bookResponses = books.map(bookMapper::toBookResponse).toList();
-        return new PageResponse<>(
-                bookResponses,
-                books.getNumber(),
-                books.getSize(),
-                books.getTotalElements(),
-                books.getTotalPages(),
-                books.isFirst(),
-                books.isLast()
-        );
+        Page<BookSummary> books = bookRepository.findAllByOwner(pageable, user.getId());
+        return PageResponse.of(books.map(bookMapper::toBookResponse), false);
     }
 
-    public PageResponse<BorrowedBookResponse> getAllBorrowedBooks(Integer page, Integer size, Authentication authentication) {
+    public PageResponse<BorrowedBookResponse> getAllBorrowedBooks(Integer page, Integer size, Boolean withTotal, Authentication authentication) {
         User user = (User) authentication.getPrincipal();
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
-        Page<BookTransactionHistory> borrowedBooks = bookTransactionHistoryRepository.findAllBorrowedBooks(pageable, user.getId());
-        List<BorrowedBookResponse> bookResponses = borrowedBooks.stream().map(bookMapper::toBorrowedBookResponse).toList();
-        return new PageResponse<>(
-                bookResponses,
-                borrowedBooks.getNumber(),
-                borrowedBooks.getSize(),
-                borrowedBooks.getTotalElements(),
-                borrowedBooks.getTotalPages(),
-                borrowedBooks.isFirst(),
-                borrowedBooks.isLast()
-        );
+        Slice<BorrowedBookResponse> borrowedBooks = bookTransactionHistoryRepository.findAllBorrowedBooks(pageable, user.getId())
+                .map(bookMapper::toBorrowedBookResponse);
+        if (!withTotal) {
+            return PageResponse.of(borrowedBooks);
+        }
+        long total = countCache.get(BORROWED_BOOKS_COUNT + user.getId(),
+                () -> bookTransactionHistoryRepository.countBorrowedBooks(user.getId()));
+        return PageResponse.of(new PageImpl<>(borrowedBooks.getContent(), pageable, total), true);
     }
 
-    public PageResponse<BorrowedBookResponse> getAllReturnedBooks(Integer page, Integer size, Authentication authentication) {
+    public PageResponse<BorrowedBookResponse> getAllReturnedBooks(Integer page, Integer size, Boolean withTotal, Authentication authentication) {
         User user = (User) authentication.getPrincipal();
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdDate").descending());
-        Page<BookTransactionHistory> borrowedBooks = bookTransactionHistoryRepository.findAllReturnedBooks(pageable, user.getId());
-        List<BorrowedBookResponse> bookResponses = borrowedBooks.stream().map(bookMapper::toBorrowedBookResponse).toList();
-        return new PageResponse<>(
-                bookResponses,
-                borrowedBooks.getNumber(),
-                borrowedBooks.getSize(),
-                borrowedBooks.getTotalElements(),
-                borrowedBooks.getTotalPages(),
-                borrowedBooks.isFirst(),
-                borrowedBooks.isLast()
+        Slice<BorrowedBookResponse> returnedBooks = bookTransactionHistoryRepository.findAllReturnedBooks(pageable, user.getId())
+                .map(bookMapper::toBorrowedBookResponse);
+        if (!withTotal) {
+            return PageResponse.of(returnedBooks);
+        }
+        long total = countCache.get(RETURNED_BOOKS_COUNT + user.getId(),
+                () -> bookTransactionHistoryRepository.countReturnedBooks(user.getId()));
+        return PageResponse.of(new PageImpl<>(returnedBooks.getContent(), pageable, total), true);
+    }
+
+    public CursorPageResponse<BookResponse> getAllBooksByCursor(String cursor, Integer size, Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        Window<Book> books = bookRepository.findBy(
+                withOwnerId(user.getId()).and(isDisplayable()),
+                query -> query.sortBy(KeysetCursor.CREATED_DATE_DESC)
+                        .limit(size)
+                        .scroll(KeysetCursor.decode(cursor))
+        );
+        return CursorPageResponse.of(books.map(bookMapper::toBookResponse));
+    }
+
+    public CursorPageResponse<BookResponse> getBooksByOwnerByCursor(String cursor, Integer size, Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        Window<Book> books = bookRepository.findBy(
+                withOwnerId(user.getId()),
+                query -> query.sortBy(KeysetCursor.CREATED_DATE_DESC)
+                        .limit(size)
+                        .scroll(KeysetCursor.decode(cursor))
+        );
+        return CursorPageResponse.of(books.map(bookMapper::toBookResponse));
+    }
+
+    public CursorPageResponse<BorrowedBookResponse> getAllBorrowedBooksByCursor(String cursor, Integer size, Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        Window<BookTransactionHistory> borrowedBooks = bookTransactionHistoryRepository.findBy(
+                withUserId(user.getId()).and(fetchBookAndUser()),
+                query -> query.sortBy(KeysetCursor.CREATED_DATE_DESC)
+                        .limit(size)
+                        .scroll(KeysetCursor.decode(cursor))
+        );
+        return CursorPageResponse.of(borrowedBooks.map(bookMapper::toBorrowedBookResponse));
+    }
+
+    public CursorPageResponse<BorrowedBookResponse> getAllReturnedBooksByCursor(String cursor, Integer size, Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        Window<BookTransactionHistory> returnedBooks = bookTransactionHistoryRepository.findBy(
+                withBookOwnerId(user.getId()).and(isReturned()).and(fetchBookAndUser()),
+                query -> query.sortBy(KeysetCursor.CREATED_DATE_DESC)
+                        .limit(size)
+                        .scroll(KeysetCursor.decode(cursor))
+        );
+        return CursorPageResponse.of(returnedBooks.map(bookMapper::toBorrowedBookResponse));
+    }
+
+    public CursorPageResponse<BookResponse> searchBooks(String text, String cursor, Integer size) {
+        List<String> terms = BookSearchQuery.terms(text);
+        if (terms.isEmpty()) {
+            return CursorPageResponse.of(Window.from(List.<BookResponse>of(), index -> null));
+        }
+        Map<String, Object> after = KeysetCursor.decodeRanked(cursor).getKeys();
+        List<BookSearchHit> hits = bookSearchIndex.search(
+                terms,
+                (Float) after.getOrDefault(KeysetCursor.RANK, Float.POSITIVE_INFINITY),
+                (Integer) after.getOrDefault(KeysetCursor.ID, Integer.MAX_VALUE),
+                size + 1
+        );
+        boolean hasNext = hits.size() > size;
+        List<BookSearchHit> page = hasNext ? hits.subList(0, size) : hits;
+        Map<Integer, BookSummary> summaries = bookRepository.findSummariesByIds(page.stream().map(BookSearchHit::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(BookSummary::id, Function.identity()));
+        List<BookSearchHit> found = page.stream()
+                .filter(hit -> summaries.containsKey(hit.getId()))
+                .toList();
+        Window<BookResponse> books = Window.from(
+                found.stream().map(hit -> bookMapper.toBookResponse(summaries.get(hit.getId()))).toList(),
+                index -> ScrollPosition.forward(Map.of(
+                        KeysetCursor.RANK, found.get(index).getRank(),
+                        KeysetCursor.ID, found.get(index).getId()
+                )),
+                hasNext
         );
+        return CursorPageResponse.of(books);
     }
 
     public Integer updateShareableStatus(Integer id, Authentication authentication) {
@@ -114,7 +250,8 @@ public class BookService {
             throw new OperationNotPermittedException("You are not the owner of this book");
         }
         book.setShareable(!book.getShareable());
-        bookRepository.save(book);
+        bookSearchIndex.index(bookRepository.save(book));
+        countCache.evict(DISPLAYABLE_BOOKS_COUNT + user.getId());
         return id;
     }
 
@@ -126,10 +263,58 @@ public class BookService {
             throw new OperationNotPermittedException("You are not the owner of this book");
         }
         book.setArchived(!book.getArchived());
-        bookRepository.save(book);
+        bookSearchIndex.index(bookRepository.save(book));
+        countCache.evict(DISPLAYABLE_BOOKS_COUNT + user.getId());
         return id;
     }
 
+    @Transactional
+    public List<BookStatusResult> updateShareableStatuses(BookStatusBatchRequest request, Authentication authentication) {
+        return updateStatuses(request, authentication, BookStatus::shareable,
+                (ids, ownerId) -> bookRepository.updateShareable(ids, ownerId, request.status(), LocalDateTime.now()));
+    }
+
+    @Transactional
+    public List<BookStatusResult> updateArchiveStatuses(BookStatusBatchRequest request, Authentication authentication) {
+        return updateStatuses(request, authentication, BookStatus::archived,
+                (ids, ownerId) -> bookRepository.updateArchived(ids, ownerId, request.status(), LocalDateTime.now()));
+    }
+
+    private List<BookStatusResult> updateStatuses(
+            BookStatusBatchRequest request,
+            Authentication authentication,
+            Function<BookStatus, Boolean> currentStatus,
+            BiConsumer<List<Integer>, Integer> update
+    ) {
+        User user = (User) authentication.getPrincipal();
+        Set<Integer> ids = new LinkedHashSet<>(request.ids());
+        Map<Integer, BookStatus> statuses = bookRepository.findStatusesByIds(ids).stream()
+                .collect(Collectors.toMap(BookStatus::id, Function.identity()));
+        List<BookStatusResult> results = new ArrayList<>(ids.size());
+        List<Integer> changedIds = new ArrayList<>();
+        for (Integer id : ids) {
+            BookStatus status = statuses.get(id);
+            BookStatusResult.Outcome outcome;
+            if (status == null) {
+                outcome = BookStatusResult.Outcome.NOT_FOUND;
+            } else if (!status.ownerId().equals(user.getId())) {
+                outcome = BookStatusResult.Outcome.NOT_OWNER;
+            } else if (currentStatus.apply(status).equals(request.status())) {
+                outcome = BookStatusResult.Outcome.UNCHANGED;
+            } else {
+                outcome = BookStatusResult.Outcome.UPDATED;
+                changedIds.add(id);
+            }
+            results.add(new BookStatusResult(id, outcome));
+        }
+        if (!changedIds.isEmpty()) {
+            update.accept(changedIds, user.getId());
+            bookSearchIndex.reindex(changedIds);
+            countCache.evict(DISPLAYABLE_BOOKS_COUNT + user.getId());
+        }
+        return results;
+    }
+
     public Integer borrowBook(Integer id, Authentication authentication) {
         User user = (User) authentication.getPrincipal();
         Book book = bookRepository.findById(id)
@@ -140,17 +325,23 @@ public class BookService {
         if (book.getOwner().getId().equals(user.getId())) {
             throw new OperationNotPermittedException("You are the owner of this book");
         }
-        final boolean isAlreadyBorrowed = bookTransactionHistoryRepository.isAlreadyBorrowedByUser(book.getId(), user.getId());
-        if (isAlreadyBorrowed) {
-            throw new OperationNotPermittedException("The requested book is already borrowed");
-        }
         BookTransactionHistory bookTransactionHistory = BookTransactionHistory.builder()
                 .user(user)
                 .book(book)
                 .returned(false)
                 .returnApproved(false)
                 .build();
-        return bookTransactionHistoryRepository.save(bookTransactionHistory).getId();
+        try {
+            bookTransactionHistory = bookTransactionHistoryRepository.saveAndFlush(bookTransactionHistory);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && ACTIVE_LOAN_CONSTRAINT.equals(violation.getConstraintName())) {
+                throw new OperationNotPermittedException("The requested book is already borrowed");
+            }
+            throw e;
+        }
+        countCache.evict(BORROWED_BOOKS_COUNT + user.getId());
+        return bookTransactionHistory.getId();
     }
 
     public Integer returnBorrowedBook(Integer id, Authentication authentication) {
@@ -166,7 +357,9 @@ public class BookService {
         BookTransactionHistory bookTransactionHistory = bookTransactionHistoryRepository.findByBookIdAndUserId(id, user.getId())
                 .orElseThrow(() -> new OperationNotPermittedException("You have not borrowed this book"));
         bookTransactionHistory.setReturned(true);
-        return bookTransactionHistoryRepository.save(bookTransactionHistory).getId();
+        Integer historyId = bookTransactionHistoryRepository.save(bookTransactionHistory).getId();
+        countCache.evict(RETURNED_BOOKS_COUNT + book.getOwner().getId());
+        return historyId;
     }
 
     public Integer approveReturnedBorrowedBook(Integer id, Authentication authentication) {
@@ -192,8 +385,42 @@ public class BookService {
         if (!book.getOwner().getId().equals(user.getId())) {
             throw new OperationNotPermittedException("You are not the owner of this book");
         }
-        var bookCover = fileStorageService.saveFile(file, user.getId());
-        book.setBookCover(bookCover);
-        bookRepository.save(book);
+        var bookCover = fileStorageService.saveFile(file);
+        String previousCoverHash = book.getBookCoverHash();
+        int replaced;
+        try {
+            replaced = bookRepository.replaceCover(id, user.getId(), previousCoverHash, bookCover.path(), bookCover.contentHash(), LocalDateTime.now());
+        } catch (RuntimeException e) {
+            fileStorageService.releaseFile(bookCover.contentHash());
+            throw e;
+        }
+        if (replaced == 0) {
+            fileStorageService.releaseFile(bookCover.contentHash());
+            throw new OperationNotPermittedException("The book cover was changed by another upload, please retry");
+        }
+        fileStorageService.releaseFile(previousCoverHash);
+        coverCache.evict(book.getBookCover(), book.getBookCoverThumbnail(), book.getBookCoverMedium());
+        bookCoverRenditionService.generate(book.getId(), bookCover.path());
+    }
+
+    public BookCover getBookCover(Integer id, CoverRendition rendition) {
+        Book book = bookRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Book not found for ID: " + id));
+        String renditionPath = switch (rendition) {
+            case ORIGINAL -> null;
+            case MEDIUM -> book.getBookCoverMedium();
+            case THUMBNAIL -> book.getBookCoverThumbnail();
+        };
+        if (renditionPath != null) {
+            Resource resource = coverCache.get(renditionPath);
+            if (resource != null) {
+                return new BookCover(resource, book.getBookCoverHash() + "-" + rendition.param());
+            }
+        }
+        Resource resource = coverCache.get(book.getBookCover());
+        if (resource == null) {
+            throw new EntityNotFoundException("No cover found for book ID: " + id);
+        }
+        return new BookCover(resource, book.getBookCoverHash());
     }
 }
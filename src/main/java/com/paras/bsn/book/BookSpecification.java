@@ -1,10 +1,104 @@
 package com.paras.bsn.book;
 
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
 public class BookSpecification {
 
     public static Specification<Book> withOwnerId(Integer ownerId) {
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("owner").get("id"), ownerId);
     }
+
+    public static Specification<Book> isDisplayable() {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.isFalse(root.get("archived")),
+                criteriaBuilder.isTrue(root.get("shareable"))
+        );
+    }
+
+    public static Specification<Book> matching(BookFilter filter) {
+        List<Specification<Book>> specifications = new ArrayList<>();
+        specifications.add(isArchived(filter.archived() != null && filter.archived()));
+        specifications.add(isShareable(filter.shareable() == null || filter.shareable()));
+        if (StringUtils.isNotBlank(filter.author())) {
+            specifications.add(withAuthorPrefix(filter.author()));
+        }
+        if (StringUtils.isNotBlank(filter.isbn())) {
+            specifications.add(withIsbn(filter.isbn()));
+        }
+        if (filter.minRating() != null) {
+            specifications.add(withMinRating(filter.minRating()));
+        }
+        if (filter.createdFrom() != null) {
+            specifications.add(createdFrom(filter.createdFrom()));
+        }
+        if (filter.createdTo() != null) {
+            specifications.add(createdTo(filter.createdTo()));
+        }
+        if (filter.hasCover() != null) {
+            specifications.add(hasCover(filter.hasCover()));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    public static Specification<Book> isArchived(boolean archived) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("archived"), archived);
+    }
+
+    public static Specification<Book> isShareable(boolean shareable) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("shareable"), shareable);
+    }
+
+    public static Specification<Book> withAuthorPrefix(String author) {
+        String pattern = author.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.like(criteriaBuilder.lower(root.get("authorName")), pattern, '\\');
+    }
+
+    public static Specification<Book> withIsbn(String isbn) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("isbn"), isbn.trim());
+    }
+
+    public static Specification<Book> withMinRating(double minRating) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.greaterThan(root.get("ratingCount"), 0),
+                criteriaBuilder.ge(
+                        root.<Double>get("ratingSum"),
+                        criteriaBuilder.prod(root.<Integer>get("ratingCount"), minRating)
+                )
+        );
+    }
+
+    public static Specification<Book> createdFrom(LocalDate from) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.greaterThanOrEqualTo(root.get("createdDate"), from.atStartOfDay());
+    }
+
+    public static Specification<Book> createdTo(LocalDate to) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.lessThan(root.get("createdDate"), to.plusDays(1).atStartOfDay());
+    }
+
+    public static Specification<Book> hasCover(boolean hasCover) {
+        return (root, query, criteriaBuilder) -> hasCover
+                ? criteriaBuilder.isNotNull(root.get("bookCover"))
+                : criteriaBuilder.isNull(root.get("bookCover"));
+    }
+
+    public static Specification<Book> fetchOwner() {
+        return (root, query, criteriaBuilder) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                root.fetch("owner");
+            }
+            return null;
+        };
+    }
 }
@@ -0,0 +1,9 @@
+package com.paras.bsn.book;
+
+public record BookStatus(
+        Integer id,
+        Integer ownerId,
+        Boolean shareable,
+        Boolean archived
+) {
+}
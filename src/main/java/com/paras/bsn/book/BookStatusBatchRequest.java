@@ -0,0 +1,16 @@
+package com.paras.bsn.book;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BookStatusBatchRequest(
+        @NotEmpty(message = "Book ids are required")
+        @Size(max = 500, message = "At most 500 books can be updated at once")
+        List<@NotNull(message = "Book ids must not be null") Integer> ids,
+        @NotNull(message = "Target status is required")
+        Boolean status
+) {
+}
@@ -0,0 +1,14 @@
+package com.paras.bsn.book;
+
+public record BookStatusResult(
+        Integer id,
+        Outcome outcome
+) {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,
+        NOT_FOUND,
+        NOT_OWNER
+    }
+}
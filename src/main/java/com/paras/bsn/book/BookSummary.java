@@ -0,0 +1,19 @@
+package com.paras.bsn.book;
+
+public record BookSummary(
+        Integer id,
+        String title,
+        String authorName,
+        String isbn,
+        String synopsis,
+        String ownerFirstName,
+        String ownerLastName,
+        String bookCover,
+        String bookCoverHash,
+        String bookCoverThumbnail,
+        Double ratingSum,
+        Integer ratingCount,
+        Boolean archived,
+        Boolean shareable
+) {
+}
@@ -0,0 +1,28 @@
+package com.paras.bsn.book;
+
+import com.paras.bsn.common.ContentVersion;
+
+import java.time.LocalDateTime;
+
+public record BookVersion(
+        Integer id,
+        LocalDateTime lastModified,
+        Double ratingSum,
+        Integer ratingCount,
+        String bookCoverHash
+) {
+
+    public static BookVersion of(Book book) {
+        return new BookVersion(
+                book.getId(),
+                book.getLastModifiedDate() != null ? book.getLastModifiedDate() : book.getCreatedDate(),
+                book.getRatingSum(),
+                book.getRatingCount(),
+                book.getBookCoverHash()
+        );
+    }
+
+    public ContentVersion toContentVersion() {
+        return ContentVersion.of(lastModified, id, lastModified, ratingSum, ratingCount, bookCoverHash);
+    }
+}
@@ -0,0 +1,13 @@
+package com.paras.bsn.book;
+
+public record BorrowedBookSummary(
+        Integer id,
+        String title,
+        String authorName,
+        String isbn,
+        Double ratingSum,
+        Integer ratingCount,
+        Boolean returned,
+        Boolean returnApproved
+) {
+}
@@ -0,0 +1,23 @@
+package com.paras.bsn.book;
+
+import com.paras.bsn.exception.OperationNotPermittedException;
+
+import java.util.Locale;
+
+public enum CoverRendition {
+    ORIGINAL,
+    MEDIUM,
+    THUMBNAIL;
+
+    public static CoverRendition from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new OperationNotPermittedException("Unknown cover rendition: " + value);
+        }
+    }
+
+    public String param() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,275 @@
+package com.paras.bsn.book;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bookSearchIndex", havingValue = "memory")
+public class InMemoryBookSearchIndex implements BookSearchIndex {
+
+    private static final byte TITLE = 1;
+    private static final byte ISBN = 2;
+    private static final byte AUTHOR = 4;
+    private static final byte SYNOPSIS = 8;
+
+    private static final Comparator<BookSearchHit> RANK_DESC = Comparator.comparing(BookSearchHit::getRank)
+            .thenComparing(BookSearchHit::getId)
+            .reversed();
+
+    private final BookRepository bookRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+    private final Map<Integer, String[]> termsByBook = new HashMap<>();
+
+    @Value("${bookSearchRebuildBatchSize:1000}")
+    private int rebuildBatchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByBook.clear();
+            int afterId = 0;
+            List<BookSearchDocument> batch;
+            do {
+                batch = bookRepository.findSearchDocuments(afterId, Limit.of(rebuildBatchSize));
+                for (BookSearchDocument document : batch) {
+                    add(document);
+                    afterId = document.id();
+                }
+            } while (batch.size() == rebuildBatchSize);
+            log.info("Indexed {} books for search", termsByBook.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Book book) {
+        lock.writeLock().lock();
+        try {
+            remove(book.getId());
+            if (!book.getArchived() && book.getShareable()) {
+                add(new BookSearchDocument(book.getId(), book.getTitle(), book.getAuthorName(), book.getIsbn(), book.getSynopsis()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void reindex(Collection<Integer> bookIds) {
+        List<BookSearchDocument> documents = bookRepository.findSearchDocumentsByIds(bookIds);
+        lock.writeLock().lock();
+        try {
+            bookIds.forEach(this::remove);
+            documents.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<BookSearchHit> search(List<String> terms, float afterRank, int afterId, int limit) {
+        ScoredIds matches = null;
+        lock.readLock().lock();
+        try {
+            for (String term : terms) {
+                ScoredIds termMatches = matchPrefix(term);
+                matches = matches == null ? termMatches : matches.intersect(termMatches);
+                if (matches.size == 0) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (matches == null) {
+            return List.of();
+        }
+        PriorityQueue<BookSearchHit> top = new PriorityQueue<>(limit + 1, RANK_DESC.reversed());
+        for (int i = 0; i < matches.size; i++) {
+            float rank = matches.scores[i];
+            int id = matches.ids[i];
+            if (rank < afterRank || (rank == afterRank && id < afterId)) {
+                top.add(new Hit(id, rank));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+        List<BookSearchHit> hits = new ArrayList<>(top);
+        hits.sort(RANK_DESC);
+        return hits;
+    }
+
+    private void add(BookSearchDocument document) {
+        Map<String, Byte> fieldsByTerm = new LinkedHashMap<>();
+        collect(fieldsByTerm, BookSearchQuery.terms(document.title()), TITLE);
+        collect(fieldsByTerm, BookSearchQuery.terms(BookSearchQuery.normalizeIsbn(document.isbn())), ISBN);
+        collect(fieldsByTerm, BookSearchQuery.terms(document.authorName()), AUTHOR);
+        collect(fieldsByTerm, BookSearchQuery.terms(document.synopsis()), SYNOPSIS);
+        fieldsByTerm.forEach((term, fields) -> postings.computeIfAbsent(term, key -> new Postings()).add(document.id(), fields));
+        termsByBook.put(document.id(), fieldsByTerm.keySet().toArray(String[]::new));
+    }
+
+    private void collect(Map<String, Byte> fieldsByTerm, List<String> terms, byte field) {
+        for (String term : terms) {
+            fieldsByTerm.merge(term, field, (current, added) -> (byte) (current | added));
+        }
+    }
+
+    private void remove(Integer bookId) {
+        String[] terms = termsByBook.remove(bookId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Postings termPostings = postings.get(term);
+            if (termPostings != null && termPostings.remove(bookId) && termPostings.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private ScoredIds matchPrefix(String prefix) {
+        Map<String, Postings> matching = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        int total = 0;
+        for (Postings termPostings : matching.values()) {
+            total += termPostings.size;
+        }
+        long[] entries = new long[total];
+        int index = 0;
+        for (Postings termPostings : matching.values()) {
+            for (int i = 0; i < termPostings.size; i++) {
+                entries[index++] = ((long) termPostings.ids[i] << 32)
+                        | (Float.floatToIntBits(weight(termPostings.fields[i])) & 0xffffffffL);
+            }
+        }
+        if (matching.size() > 1) {
+            Arrays.sort(entries);
+        }
+        ScoredIds scoredIds = new ScoredIds(total);
+        for (long entry : entries) {
+            int id = (int) (entry >>> 32);
+            float score = Float.intBitsToFloat((int) entry);
+            if (scoredIds.size > 0 && scoredIds.ids[scoredIds.size - 1] == id) {
+                scoredIds.scores[scoredIds.size - 1] = score;
+            } else {
+                scoredIds.ids[scoredIds.size] = id;
+                scoredIds.scores[scoredIds.size++] = score;
+            }
+        }
+        return scoredIds;
+    }
+
+    private static float weight(byte fields) {
+        if ((fields & (TITLE | ISBN)) != 0) {
+            return 1.0f;
+        }
+        if ((fields & AUTHOR) != 0) {
+            return 0.4f;
+        }
+        return 0.2f;
+    }
+
+    private static class Postings {
+
+        private int[] ids = new int[4];
+        private byte[] fields = new byte[4];
+        private int size;
+
+        void add(int id, byte field) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                fields[position] |= field;
+                return;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(fields, position, fields, position + 1, size - position);
+            ids[position] = id;
+            fields[position] = field;
+            size++;
+        }
+
+        boolean remove(int id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(fields, position + 1, fields, position, size - position - 1);
+            size--;
+            return true;
+        }
+    }
+
+    private static class ScoredIds {
+
+        private final int[] ids;
+        private final float[] scores;
+        private int size;
+
+        ScoredIds(int capacity) {
+            this.ids = new int[capacity];
+            this.scores = new float[capacity];
+        }
+
+        ScoredIds intersect(ScoredIds other) {
+            ScoredIds result = new ScoredIds(Math.min(size, other.size));
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (ids[i] < other.ids[j]) {
+                    i++;
+                } else if (ids[i] > other.ids[j]) {
+                    j++;
+                } else {
+                    result.ids[result.size] = ids[i];
+                    result.scores[result.size++] = scores[i++] + other.scores[j++];
+                }
+            }
+            return result;
+        }
+    }
+
+    private record Hit(Integer id, Float rank) implements BookSearchHit {
+
+        @Override
+        public Integer getId() {
+            return id;
+        }
+
+        @Override
+        public Float getRank() {
+            return rank;
+        }
+    }
+}
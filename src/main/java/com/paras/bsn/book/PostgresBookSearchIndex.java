@@ -0,0 +1,29 @@
+package com.paras.bsn.book;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bookSearchIndex", havingValue = "postgres", matchIfMissing = true)
+public class PostgresBookSearchIndex implements BookSearchIndex {
+
+    private final BookRepository bookRepository;
+
+    @Override
+    public List<BookSearchHit> search(List<String> terms, float afterRank, int afterId, int limit) {
+        return bookRepository.searchDisplayableBooks(BookSearchQuery.toPrefixQuery(terms), afterRank, afterId, limit);
+    }
+
+    @Override
+    public void index(Book book) {
+    }
+
+    @Override
+    public void reindex(Collection<Integer> bookIds) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.paras.bsn.common;
+
+import java.time.LocalDateTime;
+
+public record CollectionVersion(
+        Long count,
+        LocalDateTime lastModified,
+        Long ratingCount,
+        Double ratingSum
+) {
+
+    public ContentVersion toContentVersion(Object... parameters) {
+        Object[] parts = new Object[parameters.length + 4];
+        parts[0] = count;
+        parts[1] = lastModified;
+        parts[2] = ratingCount;
+        parts[3] = ratingSum;
+        System.arraycopy(parameters, 0, parts, 4, parameters.length);
+        return ContentVersion.of(lastModified, parts);
+    }
+}
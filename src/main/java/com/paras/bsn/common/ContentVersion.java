@@ -0,0 +1,25 @@
+package com.paras.bsn.common;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public record ContentVersion(
+        String eTag,
+        long lastModified
+) {
+
+    public static ContentVersion of(LocalDateTime lastModified, Object... parts) {
+        String eTag = DigestUtils.md5DigestAsHex(Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"))
+                .getBytes(StandardCharsets.UTF_8));
+        return new ContentVersion(eTag, lastModified == null
+                ? -1
+                : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+}
@@ -0,0 +1,33 @@
+package com.paras.bsn.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+@Service
+public class CountCache {
+
+    private final Cache<String, Long> counts;
+
+    public CountCache(
+            @Value("${countCacheMaximumSize:10000}") long maximumSize,
+            @Value("${countCacheTtlSeconds:60}") long ttlSeconds
+    ) {
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public long get(String key, LongSupplier counter) {
+        return counts.get(key, ignored -> counter.getAsLong());
+    }
+
+    public void evict(String key) {
+        counts.invalidate(key);
+    }
+}
@@ -0,0 +1,32 @@
+package com.paras.bsn.common;
+
+import lombok.*;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean last;
+
+    public static <T> CursorPageResponse<T> of(Window<T> window) {
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = KeysetCursor.encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
+        }
+        return new CursorPageResponse<>(
+                window.getContent(),
+                window.size(),
+                nextCursor,
+                !window.hasNext()
+        );
+    }
+}
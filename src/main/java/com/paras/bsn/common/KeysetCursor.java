@@ -0,0 +1,65 @@
+package com.paras.bsn.common;
+
+import com.paras.bsn.exception.OperationNotPermittedException;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class KeysetCursor {
+
+    public static final Sort CREATED_DATE_DESC = Sort.by("createdDate").descending()
+            .and(Sort.by("id").descending());
+
+    public static final String RANK = "rank";
+    public static final String ID = "id";
+
+    private static final String CREATED_DATE = "createdDate";
+    private static final String SEPARATOR = "|";
+
+    public static String encode(KeysetScrollPosition position) {
+        Map<String, Object> keys = position.getKeys();
+        Object leadingKey = keys.containsKey(RANK) ? keys.get(RANK) : keys.get(CREATED_DATE);
+        String raw = leadingKey + SEPARATOR + keys.get(ID);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScrollPosition decode(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(CREATED_DATE, LocalDateTime.parse(raw.substring(0, separatorIndex)));
+            keys.put(ID, Integer.valueOf(raw.substring(separatorIndex + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new OperationNotPermittedException("Invalid cursor: " + cursor);
+        }
+    }
+
+    public static KeysetScrollPosition decodeRanked(String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(RANK, Float.valueOf(raw.substring(0, separatorIndex)));
+            keys.put(ID, Integer.valueOf(raw.substring(separatorIndex + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new OperationNotPermittedException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.paras.bsn.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -9,12 +12,40 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
     private List<T> content;
     private int number;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
     private boolean last;
     private boolean first;
+    private boolean approximateTotal;
+
+    public static <T> PageResponse<T> of(Page<T> page, boolean approximateTotal) {
+        return new PageResponse<>(
+                page.getContent(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.isLast(),
+                page.isFirst(),
+                approximateTotal
+        );
+    }
+
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                null,
+                null,
+                slice.isLast(),
+                slice.isFirst(),
+                false
+        );
+    }
 }
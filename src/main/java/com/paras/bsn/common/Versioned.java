@@ -0,0 +1,7 @@
+package com.paras.bsn.common;
+
+public record Versioned<T>(
+        ContentVersion version,
+        T content
+) {
+}
@@ -1,29 +1,38 @@
 package com.paras.bsn.config;
 
 
+import com.paras.bsn.security.PooledPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class BeansConfig {
 
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -38,7 +47,18 @@ public class BeansConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Qualifier("passwordTaskExecutor") AsyncTaskExecutor passwordTaskExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${passwordHashStrength:0}") int strength,
+            @Value("${passwordHashTargetMillis:100}") long targetMillis,
+            @Value("${passwordHashMinStrength:10}") int minStrength,
+            @Value("${passwordHashMaxStrength:16}") int maxStrength
+    ) {
+        boolean pinned = strength > 0;
+        int effectiveStrength = pinned
+                ? strength
+                : PooledPasswordEncoder.calibrate(Duration.ofMillis(targetMillis), minStrength, maxStrength);
+        return new PooledPasswordEncoder(effectiveStrength, pinned, passwordTaskExecutor, meterRegistry);
     }
 }
@@ -0,0 +1,95 @@
+package com.paras.bsn.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class ExecutorConfig {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+        return executor("application", 4, 8, 100, "caller-runs", true);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor mailTaskExecutor() {
+        return executor("mail", 2, 2, 1, "discard", true);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor imageTaskExecutor() {
+        return executor("image", 2, 2, 100, "abort", false);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reconciliationTaskExecutor() {
+        return executor("reconciliation", 2, 2, 10, "caller-runs", true);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor passwordTaskExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return executor("password", processors, processors, 50, "abort", false);
+    }
+
+    private ThreadPoolTaskExecutor executor(
+            String name,
+            int corePoolSize,
+            int maxPoolSize,
+            int queueCapacity,
+            String rejectionPolicy,
+            boolean blockingIo
+    ) {
+        String beanName = name + "TaskExecutor";
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(property(name, "CorePoolSize", corePoolSize));
+        executor.setMaxPoolSize(property(name, "MaxPoolSize", maxPoolSize));
+        executor.setQueueCapacity(property(name, "QueueCapacity", queueCapacity));
+        executor.setRejectedExecutionHandler(countingRejections(beanName,
+                environment.getProperty(name + "ExecutorRejectionPolicy", rejectionPolicy)));
+        executor.setTaskDecorator(new InstrumentedTaskDecorator(beanName, meterRegistry));
+        executor.setThreadNamePrefix(name + "-");
+        if (blockingIo && Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    private int property(String name, String setting, int defaultValue) {
+        return environment.getProperty(name + "Executor" + setting, Integer.class, defaultValue);
+    }
+
+    private RejectedExecutionHandler countingRejections(String beanName, String rejectionPolicy) {
+        RejectedExecutionHandler policy = switch (rejectionPolicy) {
+            case "caller-runs" -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case "abort" -> new ThreadPoolExecutor.AbortPolicy();
+            case "discard" -> new ThreadPoolExecutor.DiscardPolicy();
+            default -> throw new IllegalArgumentException(
+                    "Unknown rejection policy for " + beanName + ": " + rejectionPolicy);
+        };
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("Tasks rejected because the executor queue was full")
+                .tag("name", beanName)
+                .register(meterRegistry);
+        return (runnable, executor) -> {
+            rejected.increment();
+            policy.rejectedExecution(runnable, executor);
+        };
+    }
+}
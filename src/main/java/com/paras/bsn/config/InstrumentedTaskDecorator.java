@@ -0,0 +1,50 @@
+package com.paras.bsn.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class InstrumentedTaskDecorator implements TaskDecorator {
+
+    private final Timer queueTimer;
+    private final Timer executionTimer;
+
+    public InstrumentedTaskDecorator(String executorName, MeterRegistry meterRegistry) {
+        this.queueTimer = Timer.builder("executor.idle")
+                .description("Time tasks spend queued before they start")
+                .tag("name", executorName)
+                .register(meterRegistry);
+        this.executionTimer = Timer.builder("executor")
+                .description("Time tasks spend executing")
+                .tag("name", executorName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> submitterContext = MDC.getCopyOfContextMap();
+        long submittedAt = System.nanoTime();
+        return () -> {
+            queueTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            Map<String, String> previousContext = MDC.getCopyOfContextMap();
+            setContext(submitterContext);
+            try {
+                executionTimer.record(runnable);
+            } finally {
+                setContext(previousContext);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+}
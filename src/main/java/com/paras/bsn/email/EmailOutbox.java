@@ -0,0 +1,42 @@
+package com.paras.bsn.email;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+    private String username;
+    @Enumerated(EnumType.STRING)
+    private EmailTemplateName template;
+    private String confirmationUrl;
+    @Column(nullable = false)
+    private String subject;
+    private String activationCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmailOutboxStatus status;
+    @Column(nullable = false)
+    private int attempts;
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+    @Column(length = 1000)
+    private String lastError;
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,144 @@
+package com.paras.bsn.email;
+
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final JavaMailSender mailSender;
+    private final TaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${emailOutboxBatchSize:50}")
+    private int batchSize;
+
+    @Value("${emailOutboxMaxAttempts:8}")
+    private int maxAttempts;
+
+    @Value("${emailOutboxInitialBackoffSeconds:30}")
+    private long initialBackoffSeconds;
+
+    @Value("${emailOutboxMaxBackoffSeconds:3600}")
+    private long maxBackoffSeconds;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository emailOutboxRepository,
+            EmailService emailService,
+            JavaMailSender mailSender,
+            @Qualifier("mailTaskExecutor") TaskExecutor executor,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.mailSender = mailSender;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${emailOutboxPollDelayMillis:5000}", fixedDelayString = "${emailOutboxPollDelayMillis:5000}")
+    public void dispatch() {
+        executor.execute(this::drain);
+    }
+
+    private void drain() {
+        Integer batch;
+        do {
+            batch = transactionTemplate.execute(status -> dispatchBatch(LocalDateTime.now()));
+        } while (batch == batchSize);
+    }
+
+    private int dispatchBatch(LocalDateTime now) {
+        List<EmailOutbox> emails = emailOutboxRepository.lockDue(now, batchSize);
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox email : emails) {
+            try {
+                messages.put(emailService.createMessage(email), email);
+            } catch (Exception e) {
+                markFailed(email, e, now);
+            }
+        }
+        if (messages.isEmpty()) {
+            return emails.size();
+        }
+        Map<Object, Exception> failures = send(messages.keySet().toArray(MimeMessage[]::new));
+        messages.forEach((message, email) -> {
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                email.setStatus(EmailOutboxStatus.SENT);
+                email.setSentAt(now);
+                email.setAttempts(email.getAttempts() + 1);
+                email.setLastError(null);
+            } else {
+                markFailed(email, failure, now);
+            }
+        });
+        return emails.size();
+    }
+
+    private Map<Object, Exception> send(MimeMessage[] messages) {
+        try {
+            mailSender.send(messages);
+            return Map.of();
+        } catch (MailSendException e) {
+            if (!e.getFailedMessages().isEmpty()) {
+                return e.getFailedMessages();
+            }
+            return failAll(messages, e);
+        } catch (MailException e) {
+            return failAll(messages, e);
+        }
+    }
+
+    private Map<Object, Exception> failAll(MimeMessage[] messages, Exception failure) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        for (MimeMessage message : messages) {
+            failures.put(message, failure);
+        }
+        return failures;
+    }
+
+    private void markFailed(EmailOutbox email, Exception failure, LocalDateTime now) {
+        int attempts = email.getAttempts() + 1;
+        email.setAttempts(attempts);
+        email.setLastError(truncate(String.valueOf(failure.getMessage())));
+        if (attempts >= maxAttempts) {
+            email.setStatus(EmailOutboxStatus.FAILED);
+            log.error("Giving up on email {} to {} after {} attempts: {}",
+                    email.getId(), email.getRecipient(), attempts, failure.getMessage());
+            return;
+        }
+        email.setNextAttemptAt(now.plus(backoff(attempts)));
+        log.warn("Failed to send email {} (attempt {}): {}", email.getId(), attempts, failure.getMessage());
+    }
+
+    private Duration backoff(int attempts) {
+        long seconds = initialBackoffSeconds << Math.min(attempts - 1, 30);
+        return Duration.ofSeconds(Math.min(seconds, maxBackoffSeconds));
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
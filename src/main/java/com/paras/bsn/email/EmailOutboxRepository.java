@@ -0,0 +1,21 @@
+package com.paras.bsn.email;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query(value = """
+            SELECT *
+            FROM email_outbox
+            WHERE status = 'PENDING'
+            AND next_attempt_at <= :now
+            ORDER BY next_attempt_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<EmailOutbox> lockDue(LocalDateTime now, int limit);
+}
@@ -0,0 +1,7 @@
+package com.paras.bsn.email;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -5,12 +5,11 @@ import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,39 +18,48 @@ import java.util.Map;
 public class EmailService {
 
     private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final EmailOutboxRepository emailOutboxRepository;
 
-    @Async
+    @Transactional
     public void sendEmail(String to,
                           String username,
                           EmailTemplateName emailTemplate,
                           String confirmationURL,
                           String subject,
-                          String activationCode) throws MessagingException {
-        String templateName;
-        if(emailTemplate == null){
-            templateName = "confirm-account";
-        }else {
-            templateName = emailTemplate.name();
-        }
+                          String activationCode) {
+        LocalDateTime now = LocalDateTime.now();
+        emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .username(username)
+                .template(emailTemplate)
+                .confirmationUrl(confirmationURL)
+                .subject(subject)
+                .activationCode(activationCode)
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+
+    MimeMessage createMessage(EmailOutbox email) throws MessagingException {
+        EmailTemplateName template = email.getTemplate() == null
+                ? EmailTemplateName.ACTIVATE_ACCOUNT
+                : email.getTemplate();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("username", email.getUsername());
+        properties.put("confirmationUrl", email.getConfirmationUrl());
+        properties.put("activation_code", email.getActivationCode());
         MimeMessage mimeMessage = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(
                 mimeMessage,
                 MimeMessageHelper.MULTIPART_MODE_MIXED,
                 StandardCharsets.UTF_8.name());
-        Map<String, Object> properties = new HashMap<>();
-        properties.put("username", username);
-        properties.put("confirmationUrl", confirmationURL);
-        properties.put("activation_code", activationCode);
-        Context context = new Context();
-        context.setVariables(properties);
         helper.setFrom("contact@paras.com");
-        helper.setTo(to);
-        helper.setSubject(subject);
-        String template = templateEngine.process(templateName, context);
-        helper.setText(template, true);
-        mailSender.send(mimeMessage);
-
-
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(emailTemplateRenderer.render(template, properties), true);
+        return mimeMessage;
     }
 }
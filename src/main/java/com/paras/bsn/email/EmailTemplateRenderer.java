@@ -0,0 +1,57 @@
+package com.paras.bsn.email;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.io.StringWriter;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class EmailTemplateRenderer {
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final SpringTemplateEngine templateEngine;
+    private final Map<EmailTemplateName, Timer> renderTimers = new EnumMap<>(EmailTemplateName.class);
+    private final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(() -> new StringWriter(INITIAL_BUFFER_SIZE));
+
+    public EmailTemplateRenderer(SpringTemplateEngine templateEngine, MeterRegistry meterRegistry) {
+        this.templateEngine = templateEngine;
+        for (EmailTemplateName template : EmailTemplateName.values()) {
+            renderTimers.put(template, Timer.builder("email.render")
+                    .description("Time spent rendering email templates")
+                    .tag("template", template.getName())
+                    .register(meterRegistry));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        for (EmailTemplateName template : EmailTemplateName.values()) {
+            render(template, Map.of());
+        }
+        log.info("Warmed up {} email templates", EmailTemplateName.values().length);
+    }
+
+    public String render(EmailTemplateName template, Map<String, Object> variables) {
+        StringWriter buffer = buffers.get();
+        buffer.getBuffer().setLength(0);
+        Context context = new Context(Locale.getDefault(), variables);
+        renderTimers.get(template).record(() -> templateEngine.process(template.getName(), context, buffer));
+        String rendered = buffer.toString();
+        if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffers.remove();
+        }
+        return rendered;
+    }
+}
@@ -0,0 +1,7 @@
+package com.paras.bsn.exception;
+
+public class FileStorageException extends RuntimeException {
+    public FileStorageException(String s, Throwable cause) {
+        super(s, cause);
+    }
+}
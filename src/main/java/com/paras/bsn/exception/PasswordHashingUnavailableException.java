@@ -0,0 +1,7 @@
+package com.paras.bsn.exception;
+
+public class PasswordHashingUnavailableException extends RuntimeException {
+    public PasswordHashingUnavailableException(String s) {
+        super(s);
+    }
+}
@@ -1,12 +1,15 @@
 package com.paras.bsn.feedback;
 
+import com.paras.bsn.common.ContentVersion;
 import com.paras.bsn.common.PageResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,9 +32,15 @@ public class FeedbackController {
             @PathVariable Integer bookId,
             @RequestParam(name = "page", defaultValue = "0", required = false) Integer page,
             @RequestParam(name = "size", defaultValue = "10", required = false) Integer size,
-            Authentication authentication
+            @RequestParam(name = "withTotal", defaultValue = "true", required = false) Boolean withTotal,
+            Authentication authentication,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(feedbackService.getFeedbackByBookId(bookId, page, size, authentication));
+        ContentVersion version = feedbackService.getFeedbackVersion(bookId, page, size, withTotal, authentication);
+        if (webRequest.checkNotModified(version.eTag(), version.lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(feedbackService.getFeedbackByBookId(bookId, page, size, withTotal, authentication));
     }
 
 }
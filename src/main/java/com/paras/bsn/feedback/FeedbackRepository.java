@@ -1,7 +1,8 @@
 package com.paras.bsn.feedback;
 
-import org.springframework.data.domain.Page;
+import com.paras.bsn.common.CollectionVersion;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -11,5 +12,22 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Integer> {
             FROM Feedback feedback
             WHERE feedback.book.id = :bookId
             """)
-    Page<Feedback> findAllByBookId(Integer bookId, Pageable pageable);
+    Slice<Feedback> findAllByBookId(Integer bookId, Pageable pageable);
+
+    @Query("""
+            SELECT COUNT(feedback)
+            FROM Feedback feedback
+            WHERE feedback.book.id = :bookId
+            """)
+    long countByBookId(Integer bookId);
+
+    @Query("""
+            SELECT new com.paras.bsn.common.CollectionVersion(
+                COUNT(feedback), MAX(COALESCE(feedback.lastModifiedDate, feedback.createdDate)),
+                COUNT(feedback.note), SUM(feedback.note)
+            )
+            FROM Feedback feedback
+            WHERE feedback.book.id = :bookId
+            """)
+    CollectionVersion findCollectionVersionByBookId(Integer bookId);
 }
@@ -2,29 +2,35 @@ package com.paras.bsn.feedback;
 
 import com.paras.bsn.book.Book;
 import com.paras.bsn.book.BookRepository;
+import com.paras.bsn.common.ContentVersion;
+import com.paras.bsn.common.CountCache;
 import com.paras.bsn.common.PageResponse;
 import com.paras.bsn.exception.OperationNotPermittedException;
 import com.paras.bsn.user.User;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
 
 @RequiredArgsConstructor
 @Service
 public class FeedbackService {
 
+    private static final String FEEDBACKS_COUNT = "feedbacks:";
+
     private final BookRepository bookRepository;
     private final FeedbackMapper feedbackMapper;
     private final FeedbackRepository feedbackRepository;
+    private final CountCache countCache;
 
+    @Transactional
     public Integer createFeedback(FeedbackRequest feedbackRequest, Authentication authentication) {
-        Book book = bookRepository.findById(feedbackRequest.bookId())
+        Book book = bookRepository.findByIdForUpdate(feedbackRequest.bookId())
                 .orElseThrow(() -> new EntityNotFoundException("No book found with id " + feedbackRequest.bookId()));
         if (book.getArchived() || !book.getShareable()) {
             throw new OperationNotPermittedException("Book is not available for feedback");
@@ -34,25 +40,32 @@ public class FeedbackService {
             throw new OperationNotPermittedException("Owner can't give feedback");
         }
         Feedback feedback = feedbackMapper.toFeedback(feedbackRequest);
-        return feedbackRepository.save(feedback).getId();
+        Integer feedbackId = feedbackRepository.save(feedback).getId();
+        if (feedback.getNote() != null) {
+            book.setRatingSum(book.getRatingSum() + feedback.getNote());
+            book.setRatingCount(book.getRatingCount() + 1);
+        }
+        countCache.evict(FEEDBACKS_COUNT + book.getId());
+        return feedbackId;
     }
 
 
-    public PageResponse<FeedbackResponse> getFeedbackByBookId(Integer bookId, Integer page, Integer size, Authentication authentication) {
+    public ContentVersion getFeedbackVersion(Integer bookId, Integer page, Integer size, Boolean withTotal, Authentication authentication) {
+        User user = (User) authentication.getPrincipal();
+        return feedbackRepository.findCollectionVersionByBookId(bookId)
+                .toContentVersion(user.getId(), page, size, withTotal);
+    }
+
+    public PageResponse<FeedbackResponse> getFeedbackByBookId(Integer bookId, Integer page, Integer size, Boolean withTotal, Authentication authentication) {
         Pageable pageable = PageRequest.of(page, size);
         User user = (User) authentication.getPrincipal();
-        Page<Feedback> feedbacks = feedbackRepository.findAllByBookId(bookId, pageable);
-        List<FeedbackResponse> feedbackResponses = feedbacks.stream()
-                .map(f -> feedbackMapper.toFeedbackResponse(f, user.getId()))
-                .toList();
-        return new PageResponse<>(
-                feedbackResponses,
-                feedbacks.getNumber(),
-                feedbacks.getSize(),
-                feedbacks.getTotalElements(),
-                feedbacks.getTotalPages(),
-                feedbacks.isFirst(),
-                feedbacks.isLast()
-        );
+        Slice<FeedbackResponse> feedbacks = feedbackRepository.findAllByBookId(bookId, pageable)
+                .map(f -> feedbackMapper.toFeedbackResponse(f, user.getId()));
+        if (!withTotal) {
+            return PageResponse.of(feedbacks);
+        }
+        long total = countCache.get(FEEDBACKS_COUNT + bookId,
+                () -> feedbackRepository.countByBookId(bookId));
+        return PageResponse.of(new PageImpl<>(feedbacks.getContent(), pageable, total), true);
     }
 }
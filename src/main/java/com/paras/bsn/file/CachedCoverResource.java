@@ -0,0 +1,79 @@
+package com.paras.bsn.file;
+
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+
+class CachedCoverResource extends AbstractResource {
+
+    private final String path;
+    private final ByteBuffer content;
+
+    CachedCoverResource(String path, ByteBuffer content) {
+        this.path = path;
+        this.content = content;
+    }
+
+    @Override
+    public String getFilename() {
+        return Paths.get(path).getFileName().toString();
+    }
+
+    @Override
+    public String getDescription() {
+        return "Cached cover [" + path + "]";
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public long contentLength() {
+        return content.capacity();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteBufferInputStream(content.duplicate().rewind());
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.paras.bsn.file;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+public class CoverBlob {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+    @Column(nullable = false)
+    private String path;
+    @Column(nullable = false)
+    private int refCount;
+    private LocalDateTime orphanedAt;
+}
@@ -0,0 +1,45 @@
+package com.paras.bsn.file;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CoverBlobRepository extends JpaRepository<CoverBlob, String> {
+
+    @Transactional
+    @Query(value = """
+            INSERT INTO cover_blob (content_hash, path, ref_count)
+            VALUES (:contentHash, :path, 1)
+            ON CONFLICT (content_hash) DO UPDATE
+            SET ref_count = cover_blob.ref_count + 1,
+                orphaned_at = NULL
+            RETURNING path
+            """, nativeQuery = true)
+    String acquire(String contentHash, String path);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE CoverBlob blob
+            SET blob.refCount = blob.refCount - 1,
+                blob.orphanedAt = CASE WHEN blob.refCount = 1 THEN CURRENT_TIMESTAMP ELSE blob.orphanedAt END
+            WHERE blob.contentHash = :contentHash
+            AND blob.refCount > 0
+            """)
+    int release(String contentHash);
+
+    @Query(value = """
+            SELECT *
+            FROM cover_blob
+            WHERE ref_count = 0
+            AND orphaned_at < :orphanedBefore
+            ORDER BY orphaned_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<CoverBlob> lockOrphans(LocalDateTime orphanedBefore, int limit);
+}
@@ -0,0 +1,81 @@
+package com.paras.bsn.file;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+@Service
+@Slf4j
+public class CoverCache {
+
+    private final Cache<String, ByteBuffer> covers;
+    private final long maxEntryBytes;
+
+    public CoverCache(
+            MeterRegistry meterRegistry,
+            @Value("${coverCacheMaximumBytes:268435456}") long maximumBytes,
+            @Value("${coverCacheTtlSeconds:600}") long ttlSeconds,
+            @Value("${coverCacheMaxEntryBytes:262144}") long maxEntryBytes
+    ) {
+        this.maxEntryBytes = maxEntryBytes;
+        this.covers = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String path, ByteBuffer content) -> content.capacity())
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, covers, "covers");
+    }
+
+    public Resource get(String path) {
+        if (StringUtils.isBlank(path)) {
+            return null;
+        }
+        ByteBuffer cached = covers.getIfPresent(path);
+        if (cached != null) {
+            return new CachedCoverResource(path, cached);
+        }
+        Path file = Paths.get(path);
+        try {
+            long size = Files.size(file);
+            if (size > maxEntryBytes) {
+                return new FileSystemResource(file);
+            }
+            ByteBuffer content = ByteBuffer.wrap(read(file, (int) size));
+            ByteBuffer existing = covers.asMap().putIfAbsent(path, content);
+            return new CachedCoverResource(path, existing != null ? existing : content);
+        } catch (IOException e) {
+            log.warn("Failed to read file from location: {}", path);
+            return null;
+        }
+    }
+
+    public void evict(String... paths) {
+        for (String path : paths) {
+            if (path != null) {
+                covers.invalidate(path);
+            }
+        }
+    }
+
+    private static byte[] read(Path file, int size) throws IOException {
+        try (InputStream input = Files.newInputStream(file)) {
+            return input.readNBytes(size);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.paras.bsn.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Slf4j
+public class CoverGarbageCollector {
+
+    private final CoverBlobRepository coverBlobRepository;
+    private final CoverStore coverStore;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${coverGarbageCollectionBatchSize:100}")
+    private int batchSize;
+
+    @Value("${coverGarbageCollectionGraceMinutes:60}")
+    private long graceMinutes;
+
+    public CoverGarbageCollector(
+            CoverBlobRepository coverBlobRepository,
+            CoverStore coverStore,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.coverBlobRepository = coverBlobRepository;
+        this.coverStore = coverStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${coverGarbageCollectionCron:0 30 3 * * *}")
+    public void collectGarbage() {
+        LocalDateTime orphanedBefore = LocalDateTime.now().minusMinutes(graceMinutes);
+        int deleted = 0;
+        int failed = 0;
+        BatchResult batch;
+        do {
+            batch = transactionTemplate.execute(status -> deleteOrphans(orphanedBefore));
+            deleted += batch.deleted();
+            failed += batch.locked() - batch.deleted();
+        } while (batch.locked() == batchSize);
+        log.info("Deleted {} unreferenced covers, {} deferred after failures", deleted, failed);
+    }
+
+    private BatchResult deleteOrphans(LocalDateTime orphanedBefore) {
+        List<CoverBlob> orphans = coverBlobRepository.lockOrphans(orphanedBefore, batchSize);
+        int deleted = 0;
+        for (CoverBlob orphan : orphans) {
+            try {
+                coverStore.delete(orphan.getPath());
+            } catch (IOException e) {
+                log.warn("Failed to delete cover {}: {}", orphan.getPath(), e.getMessage());
+                orphan.setOrphanedAt(LocalDateTime.now());
+                continue;
+            }
+            coverBlobRepository.delete(orphan);
+            deleted++;
+        }
+        return new BatchResult(orphans.size(), deleted);
+    }
+
+    private record BatchResult(int locked, int deleted) {
+    }
+}
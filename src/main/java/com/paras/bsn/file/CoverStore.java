@@ -0,0 +1,13 @@
+package com.paras.bsn.file;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface CoverStore {
+
+    StoredFile put(Path stagedFile, String contentHash, String extension) throws IOException;
+
+    void release(String contentHash);
+
+    void delete(String path) throws IOException;
+}
@@ -1,5 +1,6 @@
 package com.paras.bsn.file;
 
+import com.paras.bsn.exception.FileStorageException;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,50 +8,55 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-
-import static java.io.File.separator;
-import static java.lang.System.currentTimeMillis;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FileStorageService {
 
+    private final CoverStore coverStore;
+
     @Value("${fileUploadPath}")
     private String fileUploadPath;
 
-    public String saveFile(
-            @NotNull MultipartFile file,
-            @NotNull Integer userId) {
-        final String fileUploadSubPath = "users" + separator + userId;
-        return upload(file, fileUploadSubPath);
+    public StoredFile saveFile(@NotNull MultipartFile file) {
+        Path stagedFile = null;
+        try {
+            Path stagingFolder = Files.createDirectories(Paths.get(fileUploadPath, "staging"));
+            stagedFile = Files.createTempFile(stagingFolder, "upload-", ".tmp");
+            MessageDigest digest = FileUtils.sha256Digest();
+            try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(input, stagedFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            return coverStore.put(stagedFile, contentHash, getFileExtension(file.getOriginalFilename()));
+        } catch (IOException e) {
+            deleteQuietly(stagedFile);
+            throw new FileStorageException("Failed to save file: " + file.getOriginalFilename(), e);
+        }
     }
 
-    private String upload(@NotNull MultipartFile file, String fileUploadSubPath) {
-        final String finalUploadPath = fileUploadPath + separator + fileUploadSubPath;
-        File targetFolder = new File(finalUploadPath);
-        if (!targetFolder.exists()) {
-            boolean folderCreated = targetFolder.mkdirs();
-            if (!folderCreated) {
-                log.warn("Failed to create folder: {}", finalUploadPath);
-                return null;
-            }
+    public void releaseFile(String contentHash) {
+        coverStore.release(contentHash);
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
         }
-        final String fileExtension = getFileExtension(file.getOriginalFilename());
-        String targetFilePath = finalUploadPath + separator + currentTimeMillis() + "." + fileExtension;
-        Path targetPath = Paths.get(targetFilePath);
         try {
-            Files.write(targetPath, file.getBytes());
-            log.info("File saved successfully: {}", targetFilePath);
-            return targetFilePath;
+            Files.deleteIfExists(path);
         } catch (IOException e) {
-            log.error("Failed to save file: {}", targetFilePath);
-            return null;
+            log.warn("Failed to delete temporary file: {}", path);
         }
     }
 
@@ -62,6 +68,7 @@ public class FileStorageService {
         if (lastDotIndex == -1) {
             return "";
         }
-        return originalFilename.substring(lastDotIndex + 1).toLowerCase();
+        String extension = originalFilename.substring(lastDotIndex + 1).toLowerCase();
+        return extension.matches("[a-z0-9]{1,10}") ? extension : "";
     }
 }
@@ -0,0 +1,78 @@
+package com.paras.bsn.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FileSystemCoverStore implements CoverStore {
+
+    private final CoverBlobRepository coverBlobRepository;
+
+    @Value("${fileUploadPath}")
+    private String fileUploadPath;
+
+    @Override
+    public StoredFile put(Path stagedFile, String contentHash, String extension) throws IOException {
+        String path = coverBlobRepository.acquire(contentHash, shardedPath(contentHash, extension).toString());
+        Path target = Paths.get(path);
+        if (Files.exists(target)) {
+            Files.deleteIfExists(stagedFile);
+            log.info("Reusing stored cover: {}", path);
+        } else {
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(stagedFile, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(stagedFile);
+            }
+            log.info("Cover stored: {}", path);
+        }
+        return new StoredFile(path, contentHash);
+    }
+
+    @Override
+    public void release(String contentHash) {
+        if (contentHash != null) {
+            coverBlobRepository.release(contentHash);
+        }
+    }
+
+    @Override
+    public void delete(String path) throws IOException {
+        Path file = Paths.get(path);
+        Files.deleteIfExists(file);
+        Path folder = file.getParent();
+        if (folder == null || !Files.isDirectory(folder)) {
+            return;
+        }
+        String derivedPrefix = baseName(file) + "-*";
+        try (DirectoryStream<Path> derivedFiles = Files.newDirectoryStream(folder, derivedPrefix)) {
+            for (Path derivedFile : derivedFiles) {
+                Files.deleteIfExists(derivedFile);
+            }
+        }
+    }
+
+    private Path shardedPath(String contentHash, String extension) {
+        String fileName = extension.isEmpty() ? contentHash : contentHash + "." + extension;
+        return Paths.get(fileUploadPath, "covers", contentHash.substring(0, 2), contentHash.substring(2, 4), fileName);
+    }
+
+    private String baseName(Path file) {
+        String fileName = file.getFileName().toString();
+        int lastDotIndex = fileName.lastIndexOf('.');
+        return lastDotIndex == -1 ? fileName : fileName.substring(0, lastDotIndex);
+    }
+}
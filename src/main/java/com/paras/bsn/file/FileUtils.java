@@ -1,25 +1,15 @@
 package com.paras.bsn.file;
 
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-
-@Slf4j
 public class FileUtils {
-    public static byte[] readFileFromLocation(String fileUrl) {
-        if (StringUtils.isBlank(fileUrl)) {
-            return null;
-        }
+
+    public static MessageDigest sha256Digest() {
         try {
-            Path filePath = new File(fileUrl).toPath();
-            return Files.readAllBytes(filePath);
-        } catch (IOException e) {
-            log.warn("Failed to read file from location: {}", fileUrl);
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
-        return null;
     }
 }
@@ -0,0 +1,7 @@
+package com.paras.bsn.file;
+
+public record StoredFile(
+        String path,
+        String contentHash
+) {
+}
@@ -14,6 +14,8 @@ public enum BusinessErrorCods {
     ACCOUNT_DISABLED(303, FORBIDDEN, "User account is disabled"),
     BAD_CREDENTIALS(304, FORBIDDEN, "Email and / or password is incorrect"),
     USER_ALREADY_EXISTS(305, CONFLICT, "User with this email already exists"),
+    PASSWORD_HASHING_BUSY(306, SERVICE_UNAVAILABLE, "Too many sign-in requests, please retry shortly"),
+    FILE_STORAGE_FAILED(307, INTERNAL_SERVER_ERROR, "The uploaded file could not be stored"),
     ;
 
     @Getter
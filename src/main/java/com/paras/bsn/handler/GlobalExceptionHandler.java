@@ -1,9 +1,12 @@
 package com.paras.bsn.handler;
 
+import com.paras.bsn.exception.FileStorageException;
 import com.paras.bsn.exception.OperationNotPermittedException;
+import com.paras.bsn.exception.PasswordHashingUnavailableException;
 import jakarta.mail.MessagingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
@@ -107,4 +110,28 @@ public class GlobalExceptionHandler {
                         .error(exp.getMessage())
                         .build());
     }
+
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ExceptionResponse> handleException(PasswordHashingUnavailableException exp) {
+        return ResponseEntity
+                .status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ExceptionResponse.builder()
+                        .businessErrorCode(PASSWORD_HASHING_BUSY.getCode())
+                        .businessErrorDescription(PASSWORD_HASHING_BUSY.getDescription())
+                        .error(exp.getMessage())
+                        .build());
+    }
+
+    @ExceptionHandler(FileStorageException.class)
+    public ResponseEntity<ExceptionResponse> handleException(FileStorageException exp) {
+        log.error("File storage failed: ", exp);
+        return ResponseEntity
+                .status(INTERNAL_SERVER_ERROR)
+                .body(ExceptionResponse.builder()
+                        .businessErrorCode(FILE_STORAGE_FAILED.getCode())
+                        .businessErrorDescription(FILE_STORAGE_FAILED.getDescription())
+                        .error(exp.getMessage())
+                        .build());
+    }
 }
@@ -1,37 +1,54 @@
 package com.paras.bsn.history;
 
-import org.springframework.data.domain.Page;
+import com.paras.bsn.book.BorrowedBookSummary;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 
-public interface BookTransactionHistoryRepository extends JpaRepository<BookTransactionHistory, Integer> {
+public interface BookTransactionHistoryRepository extends JpaRepository<BookTransactionHistory, Integer>,
+        JpaSpecificationExecutor<BookTransactionHistory> {
 
     @Query("""
-            SELECT history
+            SELECT new com.paras.bsn.book.BorrowedBookSummary(
+                book.id, book.title, book.authorName, book.isbn,
+                book.ratingSum, book.ratingCount, history.returned, history.returnApproved
+            )
             FROM BookTransactionHistory history
+            JOIN history.book book
             WHERE history.user.id = :userId
             """)
-    Page<BookTransactionHistory> findAllBorrowedBooks(Pageable pageable, Integer userId);
+    Slice<BorrowedBookSummary> findAllBorrowedBooks(Pageable pageable, Integer userId);
 
     @Query("""
-            SELECT history
+            SELECT COUNT(history)
             FROM BookTransactionHistory history
-            WHERE history.book.owner.id = :userId
+            WHERE history.user.id = :userId
+            """)
+    long countBorrowedBooks(Integer userId);
+
+    @Query("""
+            SELECT new com.paras.bsn.book.BorrowedBookSummary(
+                book.id, book.title, book.authorName, book.isbn,
+                book.ratingSum, book.ratingCount, history.returned, history.returnApproved
+            )
+            FROM BookTransactionHistory history
+            JOIN history.book book
+            WHERE book.owner.id = :userId
             AND history.returned = true
             """)
-    Page<BookTransactionHistory> findAllReturnedBooks(Pageable pageable, Integer userId);
+    Slice<BorrowedBookSummary> findAllReturnedBooks(Pageable pageable, Integer userId);
 
     @Query("""
-             SELECT (COUNT(history) > 0)
-             FROM BookTransactionHistory history
-             WHERE history.book.id = :bookId
-             AND history.user.id = :userId
-             AND history.returnApproved = false
+            SELECT COUNT(history)
+            FROM BookTransactionHistory history
+            WHERE history.book.owner.id = :userId
+            AND history.returned = true
             """)
-    boolean isAlreadyBorrowedByUser(Integer bookId, Integer userId);
+    long countReturnedBooks(Integer userId);
 
     @Query("""
             SELECT history
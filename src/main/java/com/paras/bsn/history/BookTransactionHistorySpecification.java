@@ -0,0 +1,28 @@
+package com.paras.bsn.history;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public class BookTransactionHistorySpecification {
+
+    public static Specification<BookTransactionHistory> withUserId(Integer userId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<BookTransactionHistory> withBookOwnerId(Integer ownerId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("book").get("owner").get("id"), ownerId);
+    }
+
+    public static Specification<BookTransactionHistory> isReturned() {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.isTrue(root.get("returned"));
+    }
+
+    public static Specification<BookTransactionHistory> fetchBookAndUser() {
+        return (root, query, criteriaBuilder) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                root.fetch("book").fetch("owner");
+                root.fetch("user");
+            }
+            return null;
+        };
+    }
+}
@@ -1,11 +1,15 @@
 package com.paras.bsn.security;
 
+import com.paras.bsn.role.Role;
+import com.paras.bsn.user.User;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
@@ -23,8 +28,12 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
     private final JwtService jwtService;
 
+    @Value("${jwtStatelessPrincipal:false}")
+    private boolean statelessPrincipal;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -37,16 +46,18 @@ public class JwtFilter extends OncePerRequestFilter {
         }
         final String authHeader = request.getHeader(AUTHORIZATION);
         final String jwt;
+        final Claims claims;
         final String userEmail;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
         jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
+        claims = jwtService.extractAllClaims(jwt);
+        userEmail = claims.getSubject();
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            UserDetails userDetails = loadPrincipal(claims);
+            if (userDetails != null && jwtService.isTokenValid(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
@@ -60,4 +71,24 @@ public class JwtFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails loadPrincipal(Claims claims) {
+        Integer userId = claims.get("id", Integer.class);
+        if (!statelessPrincipal || userId == null) {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        }
+        if (!userStatusCache.isActive(claims.getSubject())) {
+            return null;
+        }
+        List<?> authorities = claims.get("authorities", List.class);
+        return User.builder()
+                .id(userId)
+                .email(claims.getSubject())
+                .accountLocked(false)
+                .enabled(true)
+                .roles(authorities == null ? List.of() : authorities.stream()
+                        .map(authority -> Role.builder().name(authority.toString()).build())
+                        .toList())
+                .build();
+    }
 }
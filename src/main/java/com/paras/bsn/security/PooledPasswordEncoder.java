@@ -0,0 +1,120 @@
+package com.paras.bsn.security;
+
+import com.paras.bsn.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_STRENGTH = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final boolean rehashOnAnyStrengthChange;
+    private final AsyncTaskExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PooledPasswordEncoder(
+            int strength,
+            boolean rehashOnAnyStrengthChange,
+            AsyncTaskExecutor executor,
+            MeterRegistry meterRegistry
+    ) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.rehashOnAnyStrengthChange = rehashOnAnyStrengthChange;
+        this.executor = executor;
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchesTimer = hashTimer("matches", meterRegistry);
+    }
+
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode("calibration");
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        int strength = minStrength;
+        long estimate = fastest;
+        while (strength < maxStrength && estimate * 2 <= target.toNanos()) {
+            strength++;
+            estimate *= 2;
+        }
+        log.info("Calibrated BCrypt strength {} (~{} ms per hash, target {} ms)",
+                strength, Duration.ofNanos(estimate).toMillis(), target.toMillis());
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_STRENGTH.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        int storedStrength = Integer.parseInt(matcher.group(1));
+        return rehashOnAnyStrengthChange ? storedStrength != strength : storedStrength < strength;
+    }
+
+    private <T> T hash(Timer timer, Callable<T> task) {
+        long start = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            throw new PasswordHashingUnavailableException("Password hashing capacity exhausted");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("password.hash")
+                .description("Time to hash or verify a password, including time queued for the hashing pool")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.paras.bsn.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.paras.bsn.user.UserRepository;
+import com.paras.bsn.user.UserStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Service
+public class UserStatusCache {
+
+    private static final UserStatus UNKNOWN_USER = new UserStatus(false, true);
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserStatus> statuses;
+
+    public UserStatusCache(
+            UserRepository userRepository,
+            @Value("${userStatusCacheMaximumSize:10000}") long maximumSize,
+            @Value("${userStatusCacheTtlSeconds:300}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public boolean isActive(String email) {
+        return statuses.get(email, this::loadStatus).isActive();
+    }
+
+    public void evict(String email) {
+        statuses.invalidate(email);
+    }
+
+    private UserStatus loadStatus(String email) {
+        return userRepository.findStatusByEmail(email).orElse(UNKNOWN_USER);
+    }
+}
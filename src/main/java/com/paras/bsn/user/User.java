@@ -5,6 +5,8 @@ import com.paras.bsn.history.BookTransactionHistory;
 import com.paras.bsn.role.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -26,6 +28,7 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @Entity
 @Table(name = "_user")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @EntityListeners(AuditingEntityListener.class)
 public class User implements UserDetails, Principal {
 
@@ -43,6 +46,7 @@ public class User implements UserDetails, Principal {
     private Boolean enabled;
 
     @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     private List<Role> roles;
 
     @OneToMany(mappedBy = "owner")
@@ -1,10 +1,30 @@
 package com.paras.bsn.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 
     Optional<User> findByEmail(String email);
+
+    @Query("""
+            SELECT new com.paras.bsn.user.UserStatus(user.enabled, user.accountLocked)
+            FROM User user
+            WHERE user.email = :email
+            """)
+    Optional<UserStatus> findStatusByEmail(String email);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE User user
+            SET user.password = :password,
+                user.lastModifiedDate = CURRENT_TIMESTAMP
+            WHERE user.email = :email
+            """)
+    int updatePassword(String email, String password);
 }
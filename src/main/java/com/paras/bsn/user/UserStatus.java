@@ -0,0 +1,10 @@
+package com.paras.bsn.user;
+
+public record UserStatus(
+        Boolean enabled,
+        Boolean accountLocked
+) {
+    public boolean isActive() {
+        return Boolean.TRUE.equals(enabled) && !Boolean.TRUE.equals(accountLocked);
+    }
+}
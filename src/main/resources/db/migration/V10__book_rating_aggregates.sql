@@ -0,0 +1,4 @@
+ALTER TABLE book
+    ADD COLUMN IF NOT EXISTS rating_sum FLOAT(53) DEFAULT 0 NOT NULL;
+ALTER TABLE book
+    ADD COLUMN IF NOT EXISTS rating_count INTEGER DEFAULT 0 NOT NULL;
@@ -0,0 +1,12 @@
+-- Rating aggregates were added without a backfill, and editing a book reset them to zero.
+UPDATE book
+SET rating_sum   = totals.rating_sum,
+    rating_count = totals.rating_count
+FROM (SELECT b.id,
+             COALESCE(SUM(f.note), 0) AS rating_sum,
+             COUNT(f.note)            AS rating_count
+      FROM book b
+               LEFT JOIN feedback f ON f.book_id = b.id
+      GROUP BY b.id) totals
+WHERE book.id = totals.id
+  AND (book.rating_sum <> totals.rating_sum OR book.rating_count <> totals.rating_count);
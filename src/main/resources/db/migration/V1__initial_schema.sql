@@ -0,0 +1,102 @@
+CREATE SEQUENCE role_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE _user
+(
+    id                 INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    first_name         VARCHAR(255),
+    last_name          VARCHAR(255),
+    dob                DATE,
+    email              VARCHAR(255) UNIQUE,
+    password           VARCHAR(255),
+    account_locked     BOOLEAN,
+    enabled            BOOLEAN,
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE role
+(
+    id                 INTEGER      NOT NULL,
+    name               VARCHAR(255) UNIQUE,
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE _user_roles
+(
+    users_id INTEGER NOT NULL,
+    roles_id INTEGER NOT NULL
+);
+
+CREATE TABLE token
+(
+    id           INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    token        VARCHAR(255),
+    created_at   TIMESTAMP(6),
+    expires_at   TIMESTAMP(6),
+    validated_at TIMESTAMP(6),
+    user_id      INTEGER NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE book
+(
+    id                 INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    title              VARCHAR(255),
+    author_name        VARCHAR(255),
+    isbn               VARCHAR(255),
+    synopsis           VARCHAR(255),
+    book_cover         VARCHAR(255),
+    archived           BOOLEAN,
+    shareable          BOOLEAN,
+    owner_id           INTEGER,
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6),
+    created_by         INTEGER      NOT NULL,
+    last_modified_by   INTEGER,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE book_transaction_history
+(
+    id                 INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    user_id            INTEGER,
+    book_id            INTEGER,
+    returned           BOOLEAN,
+    return_approved    BOOLEAN,
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6),
+    created_by         INTEGER      NOT NULL,
+    last_modified_by   INTEGER,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE feedback
+(
+    id                 INTEGER GENERATED BY DEFAULT AS IDENTITY,
+    comment            VARCHAR(255),
+    note               FLOAT(53),
+    book_id            INTEGER,
+    created_date       TIMESTAMP(6) NOT NULL,
+    last_modified_date TIMESTAMP(6),
+    created_by         INTEGER      NOT NULL,
+    last_modified_by   INTEGER,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE _user_roles
+    ADD CONSTRAINT FKtq7v0vo9kka3qeaw2alou2j8p FOREIGN KEY (roles_id) REFERENCES role;
+ALTER TABLE _user_roles
+    ADD CONSTRAINT FKkna43mk14wb08rt62w1982ki6 FOREIGN KEY (users_id) REFERENCES _user;
+ALTER TABLE token
+    ADD CONSTRAINT FKiblu4cjwvyntq3ugo31klp1c6 FOREIGN KEY (user_id) REFERENCES _user;
+ALTER TABLE book
+    ADD CONSTRAINT FK61m8am98w4y4vgpl82sojy8bh FOREIGN KEY (owner_id) REFERENCES _user;
+ALTER TABLE book_transaction_history
+    ADD CONSTRAINT FKetks95hi6ay47e16sj6vdv9g9 FOREIGN KEY (book_id) REFERENCES book;
+ALTER TABLE book_transaction_history
+    ADD CONSTRAINT FKh081geal7xoydl9vyh7cbf4wc FOREIGN KEY (user_id) REFERENCES _user;
+ALTER TABLE feedback
+    ADD CONSTRAINT FKgclyi456gw0lcd6xcfj2l7r6s FOREIGN KEY (book_id) REFERENCES book;
@@ -0,0 +1,34 @@
+-- Book listings: owner listing and the displayable listing, both ordered by (created_date, id)
+CREATE INDEX IF NOT EXISTS idx_book_owner_created
+    ON book (owner_id, created_date, id);
+CREATE INDEX IF NOT EXISTS idx_book_displayable
+    ON book (owner_id, created_date, id)
+    WHERE archived = false AND shareable = true;
+
+-- Borrowed listing by borrower, returned listing by book
+CREATE INDEX IF NOT EXISTS idx_history_user_created
+    ON book_transaction_history (user_id, created_date, id);
+CREATE INDEX IF NOT EXISTS idx_history_book_created
+    ON book_transaction_history (book_id, created_date, id);
+
+-- isAlreadyBorrowedByUser / findByBookIdAndUserId: loans not yet approved as returned
+CREATE INDEX IF NOT EXISTS idx_history_active_loan
+    ON book_transaction_history (book_id, user_id)
+    WHERE return_approved = false;
+
+-- findByBookIdAndOwnerId: returns waiting for the owner's approval
+CREATE INDEX IF NOT EXISTS idx_history_pending_approval
+    ON book_transaction_history (book_id)
+    WHERE returned = true AND return_approved = false;
+
+-- FeedbackRepository.findAllByBookId / countByBookId
+CREATE INDEX IF NOT EXISTS idx_feedback_book
+    ON feedback (book_id, id);
+
+-- TokenRepository.findByToken
+CREATE INDEX IF NOT EXISTS idx_token_token
+    ON token (token);
+
+-- EAGER User.roles loads by users_id
+CREATE INDEX IF NOT EXISTS idx_user_roles_user
+    ON _user_roles (users_id);
@@ -0,0 +1,9 @@
+-- A book can have at most one loan that has not been approved as returned.
+-- Replaces idx_history_active_loan and idx_history_pending_approval: lookups by book_id hit the
+-- unique index and match at most one row.
+CREATE UNIQUE INDEX ux_history_active_loan
+    ON book_transaction_history (book_id)
+    WHERE return_approved = false;
+
+DROP INDEX IF EXISTS idx_history_active_loan;
+DROP INDEX IF EXISTS idx_history_pending_approval;
@@ -0,0 +1,3 @@
+ALTER TABLE book
+    ADD COLUMN book_cover_thumbnail VARCHAR(255),
+    ADD COLUMN book_cover_medium    VARCHAR(255);
@@ -0,0 +1,13 @@
+-- Content-addressed cover files, reference counted by the books that point at them.
+CREATE TABLE cover_blob
+(
+    content_hash VARCHAR(64)  NOT NULL,
+    path         VARCHAR(255) NOT NULL,
+    ref_count    INTEGER      NOT NULL,
+    orphaned_at  TIMESTAMP(6),
+    PRIMARY KEY (content_hash)
+);
+
+CREATE INDEX idx_cover_blob_orphaned
+    ON cover_blob (orphaned_at)
+    WHERE ref_count = 0;
@@ -0,0 +1,12 @@
+-- Full-text search over the catalogue. 'simple' keeps words unstemmed so prefix queries match what users type;
+-- ISBN separators are stripped so "978-0-13" and "978013" both prefix-match the same book.
+ALTER TABLE book
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', regexp_replace(coalesce(isbn, ''), '[^0-9A-Za-z]', '', 'g')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(author_name, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(synopsis, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_book_search_vector
+    ON book USING GIN (search_vector);
@@ -0,0 +1,7 @@
+-- GET /books filters: author prefix (lower(author_name) LIKE 'x%') and exact ISBN, both scoped to the caller's books.
+-- Created-date ranges reuse idx_book_owner_created.
+CREATE INDEX idx_book_owner_author
+    ON book (owner_id, lower(author_name) text_pattern_ops);
+
+CREATE INDEX idx_book_owner_isbn
+    ON book (owner_id, isbn);
@@ -0,0 +1,22 @@
+-- Outgoing mail written in the same transaction as the data it announces, drained by EmailOutboxDispatcher.
+CREATE TABLE email_outbox
+(
+    id               BIGSERIAL     NOT NULL,
+    recipient        VARCHAR(255)  NOT NULL,
+    username         VARCHAR(255),
+    template         VARCHAR(64),
+    confirmation_url VARCHAR(1024),
+    subject          VARCHAR(255)  NOT NULL,
+    activation_code  VARCHAR(255),
+    status           VARCHAR(16)   NOT NULL,
+    attempts         INTEGER       NOT NULL,
+    next_attempt_at  TIMESTAMP(6)  NOT NULL,
+    last_error       VARCHAR(1000),
+    created_at       TIMESTAMP(6)  NOT NULL,
+    sent_at          TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_email_outbox_due
+    ON email_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,2 @@
+ALTER TABLE book
+    ADD COLUMN IF NOT EXISTS book_cover_hash VARCHAR(255);
@@ -0,0 +1,90 @@
+package com.paras.bsn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Transactional
+class QueryPlanTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void disableSequentialScans() {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void borrowedByUserLookupUsesActiveLoanIndex() {
+        assertUsesIndex("ux_history_active_loan", """
+                SELECT * FROM book_transaction_history
+                WHERE book_id = 1 AND user_id = 1 AND returned = false AND return_approved = false
+                """);
+    }
+
+    @Test
+    void pendingApprovalLookupUsesActiveLoanIndex() {
+        assertUsesIndex("ux_history_active_loan", """
+                SELECT history.* FROM book_transaction_history history
+                JOIN book book ON book.id = history.book_id
+                WHERE history.book_id = 1 AND book.owner_id = 1
+                AND history.returned = true AND history.return_approved = false
+                """);
+    }
+
+    @Test
+    void displayableBooksUseDisplayableIndex() {
+        assertUsesIndex("idx_book_displayable", """
+                SELECT * FROM book
+                WHERE archived = false AND shareable = true AND owner_id = 1
+                ORDER BY created_date DESC, id DESC
+                LIMIT 11
+                """);
+    }
+
+    @Test
+    void isbnFilterUsesOwnerIsbnIndex() {
+        assertUsesIndex("idx_book_owner_isbn", """
+                SELECT * FROM book
+                WHERE owner_id = 1 AND isbn = '9780134685991'
+                """);
+    }
+
+    @Test
+    void bookSearchUsesSearchVectorIndex() {
+        assertUsesIndex("idx_book_search_vector", """
+                SELECT id FROM book
+                WHERE search_vector @@ to_tsquery('simple', 'java:* & effect:*')
+                """);
+    }
+
+    @Test
+    void feedbacksByBookUseFeedbackIndex() {
+        assertUsesIndex("idx_feedback_book", """
+                SELECT * FROM feedback WHERE book_id = 1 LIMIT 11
+                """);
+    }
+
+    @Test
+    void tokenLookupUsesTokenIndex() {
+        assertUsesIndex("idx_token_token", """
+                SELECT * FROM token WHERE token = '123456'
+                """);
+    }
+
+    private void assertUsesIndex(String indexName, String sql) {
+        String plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)
+                .stream()
+                .collect(Collectors.joining("\n"));
+        assertTrue(plan.contains(indexName), () -> "Expected " + indexName + " in plan:\n" + plan);
+    }
+}
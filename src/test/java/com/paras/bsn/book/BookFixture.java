@@ -0,0 +1,86 @@
+package com.paras.bsn.book;
+
+import com.paras.bsn.role.RoleRepository;
+import com.paras.bsn.user.User;
+import com.paras.bsn.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class BookFixture {
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final BookRepository bookRepository;
+    private final Statistics statistics;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Book> books = new ArrayList<>();
+
+    BookFixture(
+            UserRepository userRepository,
+            RoleRepository roleRepository,
+            BookRepository bookRepository,
+            EntityManagerFactory entityManagerFactory
+    ) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.bookRepository = bookRepository;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    User saveUser() {
+        User user = userRepository.save(User.builder()
+                .firstName("First")
+                .lastName("Last")
+                .email(UUID.randomUUID() + "@bsn.test")
+                .password("password")
+                .accountLocked(false)
+                .enabled(true)
+                .roles(new ArrayList<>(List.of(roleRepository.findByName("USER").orElseThrow())))
+                .build());
+        users.add(user);
+        return user;
+    }
+
+    Book saveBook(User owner) {
+        Book book = bookRepository.save(Book.builder()
+                .title("Book " + books.size())
+                .authorName("Author")
+                .isbn("isbn-" + UUID.randomUUID())
+                .synopsis("Synopsis")
+                .archived(false)
+                .shareable(true)
+                .owner(owner)
+                .build());
+        books.add(book);
+        return book;
+    }
+
+    Authentication authenticate(User user) {
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return authentication;
+    }
+
+    long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    void cleanUp() {
+        bookRepository.deleteAll(books);
+        userRepository.deleteAll(users);
+        books.clear();
+        users.clear();
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,93 @@
+package com.paras.bsn.book;
+
+import com.paras.bsn.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.paras.bsn.book.BookStatusResult.Outcome.NOT_FOUND;
+import static com.paras.bsn.book.BookStatusResult.Outcome.NOT_OWNER;
+import static com.paras.bsn.book.BookStatusResult.Outcome.UNCHANGED;
+import static com.paras.bsn.book.BookStatusResult.Outcome.UPDATED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@StatementCountingTest
+class BookStatusBatchTests {
+
+    private static final int OWNED_BOOKS = 20;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookRepository bookRepository;
+    @Autowired
+    private BookFixture fixture;
+
+    private final List<Book> books = new ArrayList<>();
+    private User owner;
+    private Authentication ownerAuthentication;
+
+    @BeforeEach
+    void setUp() {
+        owner = fixture.saveUser();
+        ownerAuthentication = fixture.authenticate(owner);
+        for (int i = 0; i < OWNED_BOOKS; i++) {
+            books.add(fixture.saveBook(owner));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixture.cleanUp();
+    }
+
+    @Test
+    void reportsAnOutcomePerRequestedId() {
+        Book alreadyArchived = books.get(0);
+        alreadyArchived.setArchived(true);
+        bookRepository.save(alreadyArchived);
+        Book foreignBook = fixture.saveBook(fixture.saveUser());
+        Integer toArchive = books.get(1).getId();
+
+        List<BookStatusResult> results = bookService.updateArchiveStatuses(
+                new BookStatusBatchRequest(List.of(toArchive, alreadyArchived.getId(), foreignBook.getId(), -1), true),
+                ownerAuthentication
+        );
+
+        assertEquals(List.of(
+                new BookStatusResult(toArchive, UPDATED),
+                new BookStatusResult(alreadyArchived.getId(), UNCHANGED),
+                new BookStatusResult(foreignBook.getId(), NOT_OWNER),
+                new BookStatusResult(-1, NOT_FOUND)
+        ), results);
+        assertTrue(bookRepository.findById(toArchive).orElseThrow().getArchived());
+        assertFalse(bookRepository.findById(foreignBook.getId()).orElseThrow().getArchived());
+    }
+
+    @Test
+    void updatesAnyNumberOfBooksWithConstantNumberOfStatements() {
+        long fewBooksStatements = countStatements(books.subList(0, 2));
+        long manyBooksStatements = countStatements(books.subList(2, OWNED_BOOKS));
+
+        assertEquals(fewBooksStatements, manyBooksStatements);
+        assertTrue(books.stream()
+                .map(book -> bookRepository.findById(book.getId()).orElseThrow())
+                .noneMatch(Book::getShareable));
+    }
+
+    private long countStatements(List<Book> batch) {
+        List<Integer> ids = batch.stream().map(Book::getId).toList();
+        return fixture.countStatements(() -> {
+            List<BookStatusResult> results = bookService.updateShareableStatuses(
+                    new BookStatusBatchRequest(ids, false), ownerAuthentication);
+            assertTrue(results.stream().allMatch(result -> result.outcome() == UPDATED));
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.paras.bsn.book;
+
+import com.paras.bsn.history.BookTransactionHistory;
+import com.paras.bsn.history.BookTransactionHistoryRepository;
+import com.paras.bsn.user.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@StatementCountingTest
+class BorrowedBooksStatementCountTests {
+
+    private static final int BORROWED_BOOKS = 8;
+
+    @Autowired
+    private BookService bookService;
+    @Autowired
+    private BookTransactionHistoryRepository bookTransactionHistoryRepository;
+    @Autowired
+    private BookFixture fixture;
+
+    private final List<BookTransactionHistory> histories = new ArrayList<>();
+    private Authentication borrowerAuthentication;
+
+    @BeforeEach
+    void setUp() {
+        User borrower = fixture.saveUser();
+        borrowerAuthentication = fixture.authenticate(borrower);
+        for (int i = 0; i < BORROWED_BOOKS; i++) {
+            histories.add(bookTransactionHistoryRepository.save(BookTransactionHistory.builder()
+                    .user(borrower)
+                    .book(fixture.saveBook(fixture.saveUser()))
+                    .returned(false)
+                    .returnApproved(false)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookTransactionHistoryRepository.deleteAll(histories);
+        fixture.cleanUp();
+    }
+
+    @Test
+    void borrowedBooksPageUsesConstantNumberOfStatements() {
+        long smallPageStatements = countStatements(2);
+        long fullPageStatements = countStatements(BORROWED_BOOKS);
+
+        assertEquals(smallPageStatements, fullPageStatements);
+    }
+
+    private long countStatements(int size) {
+        return fixture.countStatements(() -> {
+            var page = bookService.getAllBorrowedBooksByCursor(null, size, borrowerAuthentication);
+            assertEquals(size, page.getContent().size());
+        });
+    }
+}
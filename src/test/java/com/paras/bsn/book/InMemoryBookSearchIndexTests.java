@@ -0,0 +1,84 @@
+package com.paras.bsn.book;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryBookSearchIndexTests {
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final InMemoryBookSearchIndex index = new InMemoryBookSearchIndex(bookRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(bookRepository.findSearchDocuments(eq(0), any(Limit.class))).thenReturn(List.of(
+                new BookSearchDocument(1, "Effective Java", "Joshua Bloch", "978-0-13-468599-1", "Best practices"),
+                new BookSearchDocument(2, "Java Concurrency in Practice", "Brian Goetz", "9780321349606", "Threads"),
+                new BookSearchDocument(3, "Clean Code", "Robert Martin", "9780132350884", "Examples in java")
+        ));
+        index.rebuild();
+    }
+
+    @Test
+    void matchesAllTermsByPrefixOrderedByRank() {
+        assertEquals(List.of(2, 1, 3), ids(search("jav")));
+        assertEquals(List.of(1), ids(search("effect jav")));
+        assertEquals(List.of(3, 1), ids(search("978-0-13")));
+        assertEquals(List.of(), ids(search("java kotlin")));
+    }
+
+    @Test
+    void continuesAfterKeyset() {
+        List<BookSearchHit> firstPage = index.search(BookSearchQuery.terms("java"), Float.POSITIVE_INFINITY, Integer.MAX_VALUE, 2);
+        BookSearchHit last = firstPage.get(1);
+        List<BookSearchHit> secondPage = index.search(BookSearchQuery.terms("java"), last.getRank(), last.getId(), 2);
+        assertEquals(List.of(2, 1), ids(firstPage));
+        assertEquals(List.of(3), ids(secondPage));
+    }
+
+    @Test
+    void reindexesBooksWhenTheyChange() {
+        index.index(book(1, "Effective Kotlin", true, false));
+        index.index(book(2, "Java Concurrency in Practice", true, true));
+        assertEquals(List.of(3), ids(search("java")));
+        assertEquals(List.of(1), ids(search("kotlin")));
+    }
+
+    @Test
+    void reindexesBooksByIdFromTheRepository() {
+        when(bookRepository.findSearchDocumentsByIds(List.of(1, 2))).thenReturn(List.of(
+                new BookSearchDocument(2, "Java Concurrency in Practice", "Brian Goetz", "9780321349606", "Threads")
+        ));
+        index.reindex(List.of(1, 2));
+        assertEquals(List.of(2, 3), ids(search("java")));
+        assertEquals(List.of(), ids(search("effective")));
+    }
+
+    private List<BookSearchHit> search(String text) {
+        return index.search(BookSearchQuery.terms(text), Float.POSITIVE_INFINITY, Integer.MAX_VALUE, 10);
+    }
+
+    private static List<Integer> ids(List<BookSearchHit> hits) {
+        return hits.stream().map(BookSearchHit::getId).toList();
+    }
+
+    private static Book book(Integer id, String title, boolean shareable, boolean archived) {
+        return Book.builder()
+                .id(id)
+                .title(title)
+                .authorName("Author")
+                .isbn("")
+                .synopsis("")
+                .shareable(shareable)
+                .archived(archived)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.paras.bsn.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InstrumentedTaskDecoratorTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InstrumentedTaskDecorator decorator = new InstrumentedTaskDecorator("test", meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        MDC.clear();
+    }
+
+    @Test
+    void propagatesSubmitterContextAndRestoresRunnerContext() throws InterruptedException {
+        AtomicReference<String> duringTask = new AtomicReference<>();
+        AtomicReference<String> afterTask = new AtomicReference<>();
+        MDC.put("requestId", "submitter");
+        Runnable task = decorator.decorate(() -> duringTask.set(MDC.get("requestId")));
+        MDC.clear();
+
+        Thread runner = new Thread(() -> {
+            MDC.put("requestId", "runner");
+            task.run();
+            afterTask.set(MDC.get("requestId"));
+        });
+        runner.start();
+        runner.join();
+
+        assertEquals("submitter", duringTask.get());
+        assertEquals("runner", afterTask.get());
+        assertNull(MDC.get("requestId"));
+    }
+
+    @Test
+    void recordsQueueAndExecutionTime() {
+        decorator.decorate(() -> {
+        }).run();
+
+        assertEquals(1, meterRegistry.get("executor.idle").tag("name", "test").timer().count());
+        assertEquals(1, meterRegistry.get("executor").tag("name", "test").timer().count());
+    }
+}
@@ -0,0 +1,98 @@
+package com.paras.bsn.email;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailOutboxDispatcherTests {
+
+    private final EmailOutboxRepository emailOutboxRepository = mock(EmailOutboxRepository.class);
+    private final EmailService emailService = mock(EmailService.class);
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+    private final EmailOutboxDispatcher dispatcher = new EmailOutboxDispatcher(
+            emailOutboxRepository, emailService, mailSender, new SyncTaskExecutor(), mock(PlatformTransactionManager.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 10);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "initialBackoffSeconds", 30L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffSeconds", 3600L);
+    }
+
+    @Test
+    void sendsTheWholeBatchInOneCallAndRecordsDelivery() throws Exception {
+        List<EmailOutbox> emails = List.of(email(0), email(0), email(0));
+        when(emailOutboxRepository.lockDue(any(), anyInt())).thenReturn(emails);
+        when(emailService.createMessage(any())).thenAnswer(invocation -> new MimeMessage((Session) null));
+
+        dispatcher.dispatch();
+
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        for (EmailOutbox email : emails) {
+            assertEquals(EmailOutboxStatus.SENT, email.getStatus());
+            assertNotNull(email.getSentAt());
+        }
+    }
+
+    @Test
+    void reschedulesFailedMessagesWithBackoffAndGivesUpAfterMaxAttempts() throws Exception {
+        EmailOutbox delivered = email(0);
+        EmailOutbox retried = email(1);
+        EmailOutbox exhausted = email(2);
+        MimeMessage deliveredMessage = new MimeMessage((Session) null);
+        MimeMessage retriedMessage = new MimeMessage((Session) null);
+        MimeMessage exhaustedMessage = new MimeMessage((Session) null);
+        when(emailOutboxRepository.lockDue(any(), anyInt())).thenReturn(List.of(delivered, retried, exhausted));
+        when(emailService.createMessage(delivered)).thenReturn(deliveredMessage);
+        when(emailService.createMessage(retried)).thenReturn(retriedMessage);
+        when(emailService.createMessage(exhausted)).thenReturn(exhaustedMessage);
+        doThrow(new MailSendException(Map.of(
+                retriedMessage, new Exception("mailbox busy"),
+                exhaustedMessage, new Exception("mailbox busy")
+        ))).when(mailSender).send(any(MimeMessage[].class));
+        LocalDateTime before = LocalDateTime.now();
+
+        dispatcher.dispatch();
+
+        assertEquals(EmailOutboxStatus.SENT, delivered.getStatus());
+        assertEquals(EmailOutboxStatus.PENDING, retried.getStatus());
+        assertEquals(2, retried.getAttempts());
+        assertEquals("mailbox busy", retried.getLastError());
+        assertTrue(retried.getNextAttemptAt().isAfter(before.plusSeconds(59)));
+        assertEquals(EmailOutboxStatus.FAILED, exhausted.getStatus());
+        assertEquals(3, exhausted.getAttempts());
+    }
+
+    private static EmailOutbox email(int attempts) {
+        return EmailOutbox.builder()
+                .recipient("reader@bsn.test")
+                .subject("Activate your account")
+                .status(EmailOutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
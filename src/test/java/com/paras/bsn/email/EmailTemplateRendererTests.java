@@ -0,0 +1,52 @@
+package com.paras.bsn.email;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailTemplateRendererTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EmailTemplateRenderer renderer = new EmailTemplateRenderer(templateEngine(), meterRegistry);
+
+    @Test
+    void rendersEveryTemplateByItsFileName() {
+        renderer.warmUp();
+
+        String html = renderer.render(EmailTemplateName.ACTIVATE_ACCOUNT, Map.of(
+                "username", "Ada Lovelace",
+                "confirmationUrl", "http://localhost/activate",
+                "activation_code", "123456"
+        ));
+
+        assertTrue(html.contains("Ada Lovelace"));
+        assertTrue(html.contains("123456"));
+        assertEquals(2, meterRegistry.get("email.render").tag("template", "activate_account").timer().count());
+    }
+
+    @Test
+    void reusedBufferDoesNotLeakPreviousRender() {
+        String first = renderer.render(EmailTemplateName.ACTIVATE_ACCOUNT, Map.of("activation_code", "111111"));
+        String second = renderer.render(EmailTemplateName.ACTIVATE_ACCOUNT, Map.of("activation_code", "222222"));
+
+        assertTrue(first.contains("111111"));
+        assertTrue(second.contains("222222"));
+        assertFalse(second.contains("111111"));
+    }
+
+    private static SpringTemplateEngine templateEngine() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        return templateEngine;
+    }
+}
@@ -0,0 +1,61 @@
+package com.paras.bsn.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = {
+        "coverGarbageCollectionBatchSize=1",
+        "emailOutboxPollDelayMillis=3600000"
+})
+class CoverGarbageCollectorTests {
+
+    @Autowired
+    private CoverGarbageCollector coverGarbageCollector;
+    @Autowired
+    private CoverBlobRepository coverBlobRepository;
+    @MockBean
+    private CoverStore coverStore;
+
+    private final List<CoverBlob> blobs = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        coverBlobRepository.deleteAllById(blobs.stream().map(CoverBlob::getContentHash).toList());
+    }
+
+    @Test
+    void deferredFailureDoesNotBlockOlderOrphans() throws IOException {
+        LocalDateTime startedAt = LocalDateTime.now();
+        CoverBlob undeletable = saveOrphan(startedAt.minusHours(3));
+        CoverBlob first = saveOrphan(startedAt.minusHours(2));
+        CoverBlob second = saveOrphan(startedAt.minusHours(2));
+        doThrow(new IOException("device busy")).when(coverStore).delete(undeletable.getPath());
+
+        coverGarbageCollector.collectGarbage();
+
+        assertFalse(coverBlobRepository.existsById(first.getContentHash()));
+        assertFalse(coverBlobRepository.existsById(second.getContentHash()));
+        CoverBlob deferred = coverBlobRepository.findById(undeletable.getContentHash()).orElseThrow();
+        assertTrue(deferred.getOrphanedAt().isAfter(startedAt));
+    }
+
+    private CoverBlob saveOrphan(LocalDateTime orphanedAt) {
+        String contentHash = UUID.randomUUID().toString();
+        CoverBlob blob = coverBlobRepository.save(new CoverBlob(contentHash, "covers/" + contentHash, 0, orphanedAt));
+        blobs.add(blob);
+        return blob;
+    }
+}
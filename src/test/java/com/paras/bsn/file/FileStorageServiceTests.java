@@ -0,0 +1,145 @@
+package com.paras.bsn.file;
+
+import com.paras.bsn.exception.FileStorageException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileStorageServiceTests {
+
+    private static final long UPLOAD_SIZE = Long.getLong("uploadSizeMegabytes", 2) * 1024 * 1024;
+    private static final int CONCURRENT_UPLOADS = 8;
+
+    @TempDir
+    Path uploadRoot;
+
+    @Test
+    void streamsConcurrentUploadsWithoutBufferingThemInHeap() throws Exception {
+        FileStorageService fileStorageService = new FileStorageService(new StagedFileCoverStore());
+        ReflectionTestUtils.setField(fileStorageService, "fileUploadPath", uploadRoot.toString());
+        String expectedHash = expectedHash();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_UPLOADS);
+        try {
+            List<Future<StoredFile>> uploads = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+                uploads.add(executor.submit(() -> fileStorageService.saveFile(new StreamingOnlyFile())));
+            }
+            for (Future<StoredFile> upload : uploads) {
+                StoredFile storedFile = upload.get();
+                assertNotNull(storedFile);
+                assertEquals(expectedHash, storedFile.contentHash());
+                assertEquals(UPLOAD_SIZE, Files.size(Path.of(storedFile.path())));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failsWithStorageErrorAndRemovesStagedFileWhenUploadBreaks() throws IOException {
+        FileStorageService fileStorageService = new FileStorageService(new StagedFileCoverStore());
+        ReflectionTestUtils.setField(fileStorageService, "fileUploadPath", uploadRoot.toString());
+        MockMultipartFile brokenFile = new MockMultipartFile("file", "cover.png", "image/png", new byte[0]) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+
+        assertThrows(FileStorageException.class, () -> fileStorageService.saveFile(brokenFile));
+        try (Stream<Path> stagedFiles = Files.list(uploadRoot.resolve("staging"))) {
+            assertEquals(0, stagedFiles.count());
+        }
+    }
+
+    private static String expectedHash() throws IOException {
+        MessageDigest digest = FileUtils.sha256Digest();
+        byte[] buffer = new byte[8192];
+        try (InputStream input = new GeneratedInputStream()) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static class StagedFileCoverStore implements CoverStore {
+
+        @Override
+        public StoredFile put(Path stagedFile, String contentHash, String extension) {
+            return new StoredFile(stagedFile.toString(), contentHash);
+        }
+
+        @Override
+        public void release(String contentHash) {
+        }
+
+        @Override
+        public void delete(String path) {
+        }
+    }
+
+    private static class StreamingOnlyFile extends MockMultipartFile {
+
+        StreamingOnlyFile() {
+            super("file", "cover.png", "image/png", new byte[0]);
+        }
+
+        @Override
+        public long getSize() {
+            return UPLOAD_SIZE;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new AssertionError("upload must not be buffered in heap");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new GeneratedInputStream();
+        }
+    }
+
+    private static class GeneratedInputStream extends InputStream {
+
+        private long position;
+
+        @Override
+        public int read() {
+            return position < UPLOAD_SIZE ? (int) (position++ * 31 & 0xff) : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= UPLOAD_SIZE) {
+                return -1;
+            }
+            int count = (int) Math.min(length, UPLOAD_SIZE - position);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) (position++ * 31);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.paras.bsn.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token authentication cost, before and after the single-parse path.
+ * Run with {@code ./mvnw -Pbenchmark test-compile exec:exec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(2)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_KEY = "b1ZBRkoxOGZnZnNhcE5qRkYwTzY2Uzh2ZGVUZkN4VXc=";
+
+    private JwtService jwtService;
+    private JwtParser jwtParser;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaximumSize", 10_000L);
+        jwtService.init();
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build();
+        userDetails = User.withUsername("reader@bsn.test").password("password").authorities("USER").build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean parsePerClaimWithFreshKey() {
+        String username = parseWithFreshKey(token).getSubject();
+        return username.equals(userDetails.getUsername())
+                && parseWithFreshKey(token).getSubject().equals(userDetails.getUsername())
+                && !parseWithFreshKey(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean parseOnceWithReusedParser() {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        return jwtService.isTokenValid(claims, userDetails);
+    }
+
+    @Benchmark
+    public boolean cachedVerifiedClaims() {
+        Claims claims = jwtService.extractAllClaims(token);
+        return jwtService.isTokenValid(claims, userDetails);
+    }
+
+    private static Claims parseWithFreshKey(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtServiceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,88 @@
+package com.paras.bsn.security;
+
+import com.paras.bsn.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledPasswordEncoderTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    PooledPasswordEncoderTests() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void hashesOnThePoolAndRecordsLatency() {
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(4, false, executor, meterRegistry);
+
+        String encoded = encoder.encode("password123");
+
+        assertTrue(encoded.startsWith("$2a$04$"));
+        assertTrue(encoder.matches("password123", encoded));
+        assertFalse(encoder.matches("wrong", encoded));
+        assertEquals(1, meterRegistry.get("password.hash").tag("operation", "encode").timer().count());
+        assertEquals(2, meterRegistry.get("password.hash").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void rejectsWhenThePoolIsSaturated() throws InterruptedException {
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(4, false, executor, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Runnable blocker = () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.execute(blocker);
+        executor.execute(blocker);
+
+        try {
+            assertThrows(PasswordHashingUnavailableException.class, () -> encoder.encode("password123"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void upgradesWeakerHashesAndOnlyRehashesStrongerOnesWhenStrengthIsPinned() {
+        String weaker = new BCryptPasswordEncoder(4).encode("password123");
+        String stronger = new BCryptPasswordEncoder(6).encode("password123");
+        PooledPasswordEncoder calibrated = new PooledPasswordEncoder(5, false, executor, meterRegistry);
+        PooledPasswordEncoder pinned = new PooledPasswordEncoder(5, true, executor, meterRegistry);
+
+        assertTrue(calibrated.upgradeEncoding(weaker));
+        assertFalse(calibrated.upgradeEncoding(stronger));
+        assertTrue(pinned.upgradeEncoding(stronger));
+        assertFalse(pinned.upgradeEncoding(calibrated.encode("password123")));
+        assertFalse(pinned.upgradeEncoding("{noop}password123"));
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        assertEquals(4, PooledPasswordEncoder.calibrate(Duration.ZERO, 4, 8));
+        assertEquals(6, PooledPasswordEncoder.calibrate(Duration.ofHours(1), 4, 6));
+    }
+}